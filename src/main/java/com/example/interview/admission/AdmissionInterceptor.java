@@ -0,0 +1,114 @@
+package com.example.interview.admission;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.example.interview.config.AdmissionConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits requests for one endpoint group through an {@link AdmissionLimiter}, fast-failing excess load with 429
+ * (queue full) or 503 (queued too long) and a {@code Retry-After} header.
+ */
+@Slf4j
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private final String attribute;
+    private final AdmissionLimiter limiter;
+    private final long retryAfterSeconds;
+
+    private final Counter admitted;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimedOut;
+    private final Timer latency;
+
+    public AdmissionInterceptor(String group, AdmissionConfig config, MeterRegistry registry) {
+        this.attribute = AdmissionInterceptor.class.getName() + "." + group;
+        this.limiter = new AdmissionLimiter(config);
+        this.retryAfterSeconds = Math.max(1, config.getRetryAfter().toSeconds());
+
+        this.admitted = Counter.builder("admission.admitted").tag("group", group).register(registry);
+        this.rejectedQueueFull = Counter.builder("admission.rejected").tag("group", group).tag("reason", "queue_full")
+                .register(registry);
+        this.rejectedTimedOut = Counter.builder("admission.rejected").tag("group", group).tag("reason", "timed_out")
+                .register(registry);
+        this.latency = Timer.builder("admission.latency").tag("group", group).register(registry);
+        Gauge.builder("admission.limit", limiter, AdmissionLimiter::getLimit).tag("group", group).register(registry);
+        Gauge.builder("admission.in_flight", limiter, AdmissionLimiter::getInFlight).tag("group", group)
+                .register(registry);
+        Gauge.builder("admission.waiting", limiter, AdmissionLimiter::getWaiting).tag("group", group)
+                .register(registry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        AdmissionLimiter.Decision decision;
+        try {
+            decision = limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            decision = AdmissionLimiter.Decision.TIMED_OUT;
+        }
+
+        switch (decision) {
+            case ADMITTED:
+                admitted.increment();
+                request.setAttribute(attribute, System.nanoTime());
+                return true;
+            case QUEUE_FULL:
+                rejectedQueueFull.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS);
+                return false;
+            default:
+                rejectedTimedOut.increment();
+                reject(response, HttpStatus.SERVICE_UNAVAILABLE);
+                return false;
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object start = request.getAttribute(attribute);
+        if (start == null || request.isAsyncStarted()) {
+            return;
+        }
+        request.removeAttribute(attribute);
+        // A request that went async spent most of its time outside the handler; its duration is not a load signal
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            limiter.release();
+            return;
+        }
+        long elapsed = System.nanoTime() - (Long) start;
+        latency.record(elapsed, TimeUnit.NANOSECONDS);
+        limiter.release(elapsed);
+    }
+
+    AdmissionLimiter getLimiter() {
+        return limiter;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status) throws IOException {
+        log.warn("Request shed with status {}", status.value());
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Server is busy. Please retry after " + retryAfterSeconds + " seconds.");
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.interview.admission;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.example.interview.config.AdmissionConfig;
+
+/**
+ * Concurrency limit with a short wait queue for one group of endpoints. With adaptive limiting the limit grows
+ * additively while requests finish within the target latency and shrinks multiplicatively when they do not.
+ */
+public class AdmissionLimiter {
+
+    public enum Decision {
+        ADMITTED,
+        QUEUE_FULL,
+        TIMED_OUT
+    }
+
+    private static final double DECREASE_FACTOR = 0.9;
+
+    private final AdmissionConfig config;
+    private final long targetLatencyNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AdmissionLimiter(AdmissionConfig config) {
+        this.config = config;
+        this.targetLatencyNanos = config.getTargetLatency().toNanos();
+        this.limit = config.getMaxConcurrency();
+    }
+
+    public Decision acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return Decision.ADMITTED;
+            }
+            if (waiting >= config.getQueueSize()) {
+                return Decision.QUEUE_FULL;
+            }
+            waiting++;
+            try {
+                long remaining = config.getQueueTimeout().toNanos();
+                while (inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        return Decision.TIMED_OUT;
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+                return Decision.ADMITTED;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long latencyNanos) {
+        release(latencyNanos, true);
+    }
+
+    /**
+     * Returns a permit without letting its latency move the limit, for requests whose duration says nothing about how
+     * loaded the server is.
+     */
+    public void release() {
+        release(0, false);
+    }
+
+    private void release(long latencyNanos, boolean sample) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (sample && config.isAdaptive()) {
+                if (latencyNanos <= targetLatencyNanos) {
+                    limit = Math.min(config.getMaxLimit(), limit + 1.0 / limit);
+                } else {
+                    limit = Math.max(config.getMinLimit(), limit * DECREASE_FACTOR);
+                }
+            }
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+}
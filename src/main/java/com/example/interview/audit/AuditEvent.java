@@ -0,0 +1,52 @@
+package com.example.interview.audit;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class AuditEvent {
+    long timestamp;
+    AuditEventType type;
+    Long bookingId;
+    String room;
+    String startTime;
+    String endTime;
+    Integer numberOfPeople;
+    String reason;
+
+    /**
+     * One tab-separated line: timestamp, type, id, room, start, end, people, reason. Absent fields are empty.
+     */
+    void appendTo(StringBuilder line) {
+        line.append(timestamp).append('\t')
+                .append(type).append('\t');
+        appendField(line, bookingId);
+        appendField(line, room);
+        appendField(line, startTime);
+        appendField(line, endTime);
+        appendField(line, numberOfPeople);
+        if (reason != null) {
+            appendEscaped(line, reason);
+        }
+        line.append('\n');
+    }
+
+    private static void appendField(StringBuilder line, Object value) {
+        if (value != null) {
+            appendEscaped(line, value.toString());
+        }
+        line.append('\t');
+    }
+
+    private static void appendEscaped(StringBuilder line, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\t' || c == '\n' || c == '\r') {
+                line.append(' ');
+            } else {
+                line.append(c);
+            }
+        }
+    }
+}
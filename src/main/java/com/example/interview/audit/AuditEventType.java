@@ -0,0 +1,9 @@
+package com.example.interview.audit;
+
+public enum AuditEventType {
+    BOOKED,
+    DELETED,
+    MOVED,
+    REJECTED,
+    WAITLISTED
+}
@@ -0,0 +1,181 @@
+package com.example.interview.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.interview.config.AuditConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records booking decisions off the request thread. Request threads put events on a bounded queue and a single
+ * background appender writes them in batches to a size-rotated file ({@code audit.log}, {@code audit.1.log}, ...).
+ * When the queue is full, request threads wait a bounded time for room and then drop the event.
+ */
+@Slf4j
+@Component
+public class AuditTrail {
+
+    private static final int MAX_BATCH = 1024;
+
+    private final AuditConfig config;
+    private final BlockingQueue<AuditEvent> queue;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private Thread appender;
+
+    private Writer writer;
+    private long fileSize;
+
+    @Autowired
+    public AuditTrail(AuditConfig config) {
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory());
+            openFile();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open audit file in " + directory(), e);
+        }
+        running = true;
+        appender = new Thread(this::appendLoop, "audit-appender");
+        appender.setDaemon(true);
+        appender.start();
+    }
+
+    public void record(AuditEvent event) {
+        if (!running) {
+            return;
+        }
+        try {
+            if (queue.offer(event, config.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.increment();
+        log.error("Audit queue full, dropped {} event for booking {}", event.getType(), event.getBookingId());
+    }
+
+    /**
+     * Events dropped because the queue stayed full.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            appender.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void appendLoop() {
+        List<AuditEvent> batch = new ArrayList<>(MAX_BATCH);
+        StringBuilder line = new StringBuilder(128);
+        long pollNanos = config.getPollInterval().toNanos();
+        try {
+            while (running || !queue.isEmpty()) {
+                AuditEvent first = queue.poll(pollNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                try {
+                    write(batch, line);
+                } catch (Throwable e) {
+                    // Losing a batch is better than losing the appender, which would leave the queue to fill up
+                    log.error("Could not write {} audit events: {}", batch.size(), e.getMessage(), e);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Could not close audit file: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void write(List<AuditEvent> batch, StringBuilder line) throws IOException {
+        for (AuditEvent event : batch) {
+            line.setLength(0);
+            event.appendTo(line);
+            writer.append(line);
+            fileSize += line.length();
+            if (fileSize >= config.getMaxFileSize().toBytes()) {
+                rotate();
+            }
+        }
+        writer.flush();
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        Path directory = directory();
+        String fileName = config.getFileName();
+        Files.deleteIfExists(directory.resolve(rotatedName(fileName, config.getMaxFiles() - 1)));
+        for (int i = config.getMaxFiles() - 2; i >= 0; i--) {
+            Path source = directory.resolve(rotatedName(fileName, i));
+            if (Files.exists(source)) {
+                Files.move(source, directory.resolve(rotatedName(fileName, i + 1)), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        openFile();
+    }
+
+    private void openFile() throws IOException {
+        Path file = directory().resolve(config.getFileName());
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                                         StandardOpenOption.APPEND);
+        fileSize = Files.size(file);
+    }
+
+    private Path directory() {
+        return Path.of(config.getDirectory());
+    }
+
+    static String rotatedName(String fileName, int index) {
+        if (index == 0) {
+            return fileName;
+        }
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? fileName + "." + index : fileName.substring(0, dot) + "." + index + fileName.substring(dot);
+    }
+}
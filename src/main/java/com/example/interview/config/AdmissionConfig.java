@@ -0,0 +1,40 @@
+package com.example.interview.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionConfig {
+
+    private boolean enabled = true;
+
+    /**
+     * Concurrent requests admitted per endpoint group; the starting point when {@link #adaptive} is on.
+     */
+    private int maxConcurrency = 64;
+
+    /**
+     * Requests that may wait for a permit; anything beyond is rejected with 429.
+     */
+    private int queueSize = 32;
+
+    /**
+     * How long a queued request waits for a permit before it is rejected with 503.
+     */
+    private Duration queueTimeout = Duration.ofMillis(50);
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Grow the limit while latency stays under {@link #targetLatency} and shrink it when latency exceeds it.
+     */
+    private boolean adaptive = true;
+    private Duration targetLatency = Duration.ofMillis(100);
+    private int minLimit = 4;
+    private int maxLimit = 256;
+}
@@ -0,0 +1,32 @@
+package com.example.interview.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "audit")
+public class AuditConfig {
+
+    private boolean enabled = true;
+    private String directory = "logs/audit";
+    private String fileName = "audit.log";
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+    private int maxFiles = 10;
+
+    /**
+     * Events waiting to be written; beyond this, request threads wait up to {@link #offerTimeout} for the appender.
+     */
+    private int queueCapacity = 65_536;
+
+    /**
+     * How long a request thread waits for room in a full queue before the event is dropped and logged.
+     */
+    private Duration offerTimeout = Duration.ofSeconds(1);
+
+    private Duration pollInterval = Duration.ofMillis(10);
+}
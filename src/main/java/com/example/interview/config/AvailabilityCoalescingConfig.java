@@ -0,0 +1,21 @@
+package com.example.interview.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "availability-coalescing")
+public class AvailabilityCoalescingConfig {
+
+    /**
+     * Let concurrent identical availability queries share one computation.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Distinct queries that may be in flight at once; queries beyond it are computed without coalescing.
+     */
+    private int maxInFlight = 1024;
+}
@@ -0,0 +1,17 @@
+package com.example.interview.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "booking-query")
+public class BookingQueryConfig {
+
+    // Page size when the request does not give a limit
+    private int defaultLimit = 50;
+    private int maxLimit = 500;
+    // Most ids a single lookup may ask for
+    private int maxIds = 1000;
+}
@@ -0,0 +1,30 @@
+package com.example.interview.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "booking-store")
+public class BookingStoreConfig {
+
+    public enum StoreType {
+        HEAP,
+        MAPPED
+    }
+
+    private StoreType type = StoreType.HEAP;
+
+    /**
+     * Booking file used by the {@link StoreType#MAPPED} store.
+     */
+    private String file = "data/bookings.dat";
+
+    private int segmentRecords = 1 << 20;
+
+    /**
+     * Largest booking id the {@link StoreType#MAPPED} store accepts, which caps the booking file at 16 bytes per id.
+     */
+    private int maxRecords = 1 << 24;
+}
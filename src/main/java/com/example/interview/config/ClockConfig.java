@@ -0,0 +1,16 @@
+package com.example.interview.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClockConfig {
+
+    // Bookings carry no date; "today" for recurring bookings is taken from this clock
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
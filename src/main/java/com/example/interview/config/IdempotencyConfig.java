@@ -0,0 +1,22 @@
+package com.example.interview.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfig {
+
+    private int maxEntries = 10_000;
+    private Duration ttl = Duration.ofHours(1);
+    private int maxKeyLength = 255;
+
+    /**
+     * How long a duplicate waits for the in-flight request with its key before it is answered with 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,15 @@
+package com.example.interview.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "booking-import")
+public class ImportConfig {
+
+    // Import files are only read from inside this directory
+    private String directory = "data/import";
+    private int maxReportedErrors = 1000;
+}
@@ -0,0 +1,36 @@
+package com.example.interview.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "occupancy-feed")
+public class OccupancyFeedConfig {
+
+    /**
+     * Recent changes kept for clients resuming with {@code Last-Event-ID}; older positions get a reset event.
+     */
+    private int history = 4096;
+
+    /**
+     * Events buffered per client. A client that falls this far behind is disconnected and resumes on reconnect.
+     */
+    private int clientBuffer = 256;
+
+    private int maxClients = 10_000;
+
+    private int senderThreads = 2;
+
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    /**
+     * How long a stream stays open before the client has to reconnect.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    private Duration retryAfter = Duration.ofSeconds(5);
+}
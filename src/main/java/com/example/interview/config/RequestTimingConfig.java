@@ -0,0 +1,21 @@
+package com.example.interview.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "request-timing")
+public class RequestTimingConfig {
+
+    /**
+     * Time the phases of booking and room requests and publish them as {@code request.phase} histograms.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Also return the phase timings of each request in a {@code Server-Timing} response header.
+     */
+    private boolean serverTimingHeader = true;
+}
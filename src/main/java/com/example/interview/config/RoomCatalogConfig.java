@@ -0,0 +1,19 @@
+package com.example.interview.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "room-catalog")
+public class RoomCatalogConfig {
+
+    // YAML file with a conference-rooms section like application.yml; when unset the catalog cannot be reloaded
+    private String file;
+    private boolean watch = true;
+    // Waits for editors that write a file in several steps before reloading it
+    private Duration watchDebounce = Duration.ofMillis(500);
+}
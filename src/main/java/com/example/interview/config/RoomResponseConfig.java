@@ -0,0 +1,21 @@
+package com.example.interview.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "room-responses")
+public class RoomResponseConfig {
+
+    /**
+     * Send gzip-compressed room lists to clients that accept them.
+     */
+    private boolean gzip = true;
+
+    /**
+     * Compressed room lists kept per catalog, one per distinct set of rooms; further sets are compressed per request.
+     */
+    private int maxGzipVariants = 256;
+}
@@ -0,0 +1,17 @@
+package com.example.interview.config;
+
+import java.time.LocalTime;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "utilization")
+public class UtilizationConfig {
+
+    // Occupancy is reported as a share of these hours
+    private LocalTime openingTime = LocalTime.of(8, 0);
+    private LocalTime closingTime = LocalTime.of(18, 0);
+}
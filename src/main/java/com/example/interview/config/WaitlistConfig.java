@@ -0,0 +1,15 @@
+package com.example.interview.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "waitlist")
+public class WaitlistConfig {
+
+    private boolean enabled = true;
+    // Requests beyond this are rejected as before instead of being parked
+    private int maxEntries = 10_000;
+}
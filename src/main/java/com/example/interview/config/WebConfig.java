@@ -0,0 +1,40 @@
+package com.example.interview.config;
+
+import com.example.interview.admission.AdmissionInterceptor;
+import com.example.interview.timing.RequestTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AdmissionConfig admissionConfig;
+
+    @Autowired
+    private RequestTimingConfig requestTimingConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Registered first so the total includes time spent waiting for admission
+        if (requestTimingConfig.isEnabled()) {
+            registry.addInterceptor(new RequestTimingInterceptor(meterRegistry))
+                    .addPathPatterns("/api/bookings/**", "/api/rooms/**")
+                    .excludePathPatterns("/api/rooms/events");
+        }
+        if (admissionConfig.isEnabled()) {
+            // Export and import stream for as long as the client takes; they would hold a permit throughout
+            registry.addInterceptor(new AdmissionInterceptor("booking", admissionConfig, meterRegistry))
+                    .addPathPatterns("/api/bookings/**")
+                    .excludePathPatterns("/api/bookings/export", "/api/bookings/import");
+            registry.addInterceptor(new AdmissionInterceptor("availability", admissionConfig, meterRegistry))
+                    .addPathPatterns("/api/rooms/available");
+        }
+    }
+}
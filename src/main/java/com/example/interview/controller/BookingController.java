@@ -1,38 +1,86 @@
 package com.example.interview.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
 import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.BookingUpdateRequest;
+import com.example.interview.dto.BulkCancellationRequest;
+import com.example.interview.dto.CancellationResult;
+import com.example.interview.dto.ImportRequest;
+import com.example.interview.dto.ImportResult;
+import com.example.interview.dto.RecurringBookingRequest;
 import com.example.interview.exception.AllRoomsBookedException;
 import com.example.interview.exception.BookingNotFoundException;
+import com.example.interview.exception.BookingWaitlistedException;
 import com.example.interview.exception.InvalidNumberOfPeopleException;
 import com.example.interview.exception.InvalidTimeIntervalException;
 import com.example.interview.exception.MaintenanceTimeException;
 import com.example.interview.exception.NoRoomAvailableException;
+import com.example.interview.exception.RoomNotFoundException;
+import com.example.interview.idempotency.IdempotencyKeyInProgressException;
+import com.example.interview.idempotency.IdempotencyKeyReuseException;
+import com.example.interview.idempotency.IdempotencyStoreFullException;
+import com.example.interview.idempotency.IdempotencyStore;
 import com.example.interview.model.Booking;
+import com.example.interview.model.WaitlistEntry;
+import com.example.interview.repo.BookingSnapshot;
+import com.example.interview.service.BookingImportService;
 import com.example.interview.service.BookingService;
+import com.example.interview.service.RecurringBookingService;
+import com.example.interview.utils.TimeCodec;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/bookings")
 public class BookingController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private BookingImportService bookingImportService;
+
+    @Autowired
+    private RecurringBookingService recurringBookingService;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/book")
-    public ResponseEntity<String> bookRoom(@Valid @RequestBody BookingRequest bookingRequest, BindingResult result) {
+    public ResponseEntity<String> bookRoom(@Valid @RequestBody BookingRequest bookingRequest, BindingResult result,
+                                           @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                           String idempotencyKey) {
         log.info("POST /api/bookings/book called");
         log.trace("POST /api/bookings/book request={}", bookingRequest);
 
@@ -47,11 +95,45 @@ public class BookingController {
             return ResponseEntity.badRequest().body(errorMessage);
         }
 
+        if (idempotencyKey == null) {
+            return processBooking(bookingRequest);
+        }
+
         try {
-            log.info("Processing booking request: {}", bookingRequest);
+            IdempotencyStore.Outcome<ResponseEntity<String>> outcome = idempotencyStore.execute(
+                    idempotencyKey, bookingRequest, () -> processBooking(bookingRequest),
+                    response -> !response.getStatusCode().is5xxServerError());
+            if (!outcome.isReplayed()) {
+                return outcome.getValue();
+            }
+            log.debug("Replaying booking result for idempotency key {}", idempotencyKey);
+            return ResponseEntity.status(outcome.getValue().getStatusCode())
+                    .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                    .body(outcome.getValue().getBody());
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid idempotency key: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IdempotencyKeyReuseException e) {
+            log.error("Idempotency key reused: {}", e.getMessage());
+            return ResponseEntity.unprocessableEntity().body(e.getMessage());
+        } catch (IdempotencyKeyInProgressException e) {
+            log.warn("Idempotency key still in progress: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IdempotencyStoreFullException e) {
+            log.warn("Idempotency store full: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+    }
+
+    private ResponseEntity<String> processBooking(BookingRequest bookingRequest) {
+        try {
+            log.debug("Processing booking request: {}", bookingRequest);
             String message = bookingService.bookRoom(bookingRequest);
-            log.info("Booking successful: {}", message);
+            log.debug("Booking successful: {}", message);
             return ResponseEntity.ok(message);
+        } catch (BookingWaitlistedException e) {
+            log.info("Booking request waitlisted as booking {}", e.getBookingId());
+            return ResponseEntity.accepted().body(e.getMessage());
         } catch (InvalidNumberOfPeopleException | MaintenanceTimeException | NoRoomAvailableException
                  | InvalidTimeIntervalException | AllRoomsBookedException e) {
             log.error("Booking failed: {}", e.getMessage());
@@ -84,8 +166,73 @@ public class BookingController {
         }
     }
 
+    @GetMapping
+    public ResponseEntity<?> findBookings(@RequestParam(required = false) String room,
+                                          @RequestParam(required = false) String startTime,
+                                          @RequestParam(required = false) String endTime,
+                                          @RequestParam(required = false) Integer minPeople,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/bookings called");
+
+        try {
+            return ResponseEntity.ok(bookingService.findBookings(room, startTime, endTime, minPeople, cursor, limit));
+        } catch (RoomNotFoundException | InvalidTimeIntervalException | IllegalArgumentException e) {
+            log.error("Booking query failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while querying bookings: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @GetMapping("/view")
+    public ResponseEntity<?> viewBookings(@RequestParam List<Long> ids) {
+        log.info("GET /api/bookings/view called for {} ids", ids.size());
+
+        try {
+            return ResponseEntity.ok(bookingService.findBookingsById(ids));
+        } catch (IllegalArgumentException e) {
+            log.error("Booking lookup failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while looking up bookings: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @PatchMapping("/update/{id}")
+    public ResponseEntity<String> updateBooking(@PathVariable String id,
+                                                @Valid @RequestBody BookingUpdateRequest updateRequest,
+                                                BindingResult result) {
+        ResponseEntity<String> validationResponse = validateId(id);
+        if (validationResponse != null) {
+            return validationResponse;
+        }
+
+        log.info("PATCH /api/bookings/update/{} called", id);
+
+        if (result.hasErrors()) {
+            String errorMessage = result.getFieldError().getDefaultMessage();
+            log.error("Validation failed: {}", errorMessage);
+            return ResponseEntity.badRequest().body(errorMessage);
+        }
+
+        try {
+            return ResponseEntity.ok(bookingService.moveBooking(Long.parseLong(id), updateRequest));
+        } catch (BookingNotFoundException | InvalidNumberOfPeopleException | MaintenanceTimeException
+                 | NoRoomAvailableException | InvalidTimeIntervalException | AllRoomsBookedException
+                 | IllegalArgumentException e) {
+            log.error("Booking update failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while updating booking: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
     @GetMapping("/view/{id}")
-    public ResponseEntity<?> viewBookingDetails(@PathVariable String id) {
+    public ResponseEntity<?> viewBookingDetails(@PathVariable String id, WebRequest webRequest) {
         ResponseEntity<String> validationResponse = validateId(id);
         if (validationResponse != null) {
             return validationResponse;
@@ -96,11 +243,21 @@ public class BookingController {
         log.info("GET /api/bookings/view/{} called", bookingId);
 
         try {
+            Optional<String> etag = bookingService.getBookingETag(bookingId);
+            if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
             Booking booking = bookingService.getBookingById(bookingId);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(booking);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+            etag.ifPresent(response::eTag);
+            return response.body(booking);
         } catch (BookingNotFoundException e) {
+            Optional<WaitlistEntry> waitlisted = bookingService.findWaitlisted(bookingId);
+            if (waitlisted.isPresent()) {
+                return ResponseEntity.accepted()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(waitlisted.get());
+            }
             log.error("Booking not found: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -109,6 +266,194 @@ public class BookingController {
         }
     }
 
+    @PostMapping("/recurring")
+    public ResponseEntity<?> createRecurringBooking(@Valid @RequestBody RecurringBookingRequest request,
+                                                    BindingResult result) {
+        log.info("POST /api/bookings/recurring called");
+
+        if (result.hasErrors()) {
+            String errorMessage = result.getFieldError().getDefaultMessage();
+            log.error("Validation failed: {}", errorMessage);
+            return ResponseEntity.badRequest().body(errorMessage);
+        }
+
+        try {
+            return ResponseEntity.ok(recurringBookingService.createRecurringBooking(request));
+        } catch (InvalidNumberOfPeopleException | MaintenanceTimeException | NoRoomAvailableException
+                 | InvalidTimeIntervalException | IllegalArgumentException e) {
+            log.error("Recurring booking failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while creating recurring booking: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @GetMapping("/recurring/{id}")
+    public ResponseEntity<?> viewRecurringBooking(@PathVariable String id) {
+        ResponseEntity<String> validationResponse = validateId(id);
+        if (validationResponse != null) {
+            return validationResponse;
+        }
+
+        try {
+            return ResponseEntity.ok(recurringBookingService.getRecurringBooking(Long.parseLong(id)));
+        } catch (BookingNotFoundException e) {
+            log.error("Recurring booking not found: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while fetching recurring booking: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @DeleteMapping("/recurring/{id}")
+    public ResponseEntity<String> deleteRecurringBooking(@PathVariable String id) {
+        ResponseEntity<String> validationResponse = validateId(id);
+        if (validationResponse != null) {
+            return validationResponse;
+        }
+
+        try {
+            recurringBookingService.deleteRecurringBooking(Long.parseLong(id));
+            return ResponseEntity.ok("Recurring booking deleted successfully.");
+        } catch (BookingNotFoundException e) {
+            log.error("Recurring booking deletion failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while deleting recurring booking: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @DeleteMapping("/recurring/{id}/occurrences/{date}")
+    public ResponseEntity<?> cancelRecurringOccurrence(@PathVariable String id, @PathVariable String date) {
+        ResponseEntity<String> validationResponse = validateId(id);
+        if (validationResponse != null) {
+            return validationResponse;
+        }
+
+        try {
+            return ResponseEntity.ok(recurringBookingService.cancelOccurrence(Long.parseLong(id), date));
+        } catch (BookingNotFoundException | IllegalArgumentException e) {
+            log.error("Cancelling recurring occurrence failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while cancelling recurring occurrence: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @PostMapping("/cancel")
+    public ResponseEntity<?> cancelBookings(@Valid @RequestBody BulkCancellationRequest cancellationRequest,
+                                            BindingResult result) {
+        log.info("POST /api/bookings/cancel called");
+
+        if (result.hasErrors()) {
+            String errorMessage = result.getFieldError().getDefaultMessage();
+            log.error("Validation failed: {}", errorMessage);
+            return ResponseEntity.badRequest().body(errorMessage);
+        }
+
+        try {
+            CancellationResult cancellation = bookingService.cancelBookings(cancellationRequest.getIds());
+            return ResponseEntity.ok(cancellation);
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while cancelling bookings: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @DeleteMapping("/room/{roomName}")
+    public ResponseEntity<?> cancelRoomBookings(@PathVariable String roomName,
+                                                @RequestParam(required = false) String startTime,
+                                                @RequestParam(required = false) String endTime) {
+        log.info("DELETE /api/bookings/room/{} called", roomName);
+
+        try {
+            CancellationResult cancellation = bookingService.cancelRoomBookings(roomName, startTime, endTime);
+            return ResponseEntity.ok(cancellation);
+        } catch (RoomNotFoundException | InvalidTimeIntervalException | IllegalArgumentException e) {
+            log.error("Room cancellation failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while cancelling room bookings: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<?> importBookings(@Valid @RequestBody ImportRequest importRequest, BindingResult result) {
+        log.info("POST /api/bookings/import called");
+
+        if (result.hasErrors()) {
+            String errorMessage = result.getFieldError().getDefaultMessage();
+            log.error("Validation failed: {}", errorMessage);
+            return ResponseEntity.badRequest().body(errorMessage);
+        }
+
+        try {
+            ImportResult importResult = bookingImportService.importBookings(importRequest.getPath(),
+                                                                            importRequest.getFormat());
+            return ResponseEntity.ok(importResult);
+        } catch (IllegalArgumentException e) {
+            log.error("Booking import failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while importing bookings: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(@RequestParam(required = false) String room,
+                                                                @RequestParam(required = false) String startTime,
+                                                                @RequestParam(required = false) String endTime) {
+        log.info("GET /api/bookings/export called");
+
+        BookingSnapshot snapshot;
+        try {
+            snapshot = bookingService.exportBookings(room, startTime, endTime);
+        } catch (RoomNotFoundException | InvalidTimeIntervalException | IllegalArgumentException e) {
+            log.error("Booking export failed: {}", e.getMessage());
+            return plainText(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while exporting bookings: {}", e.getMessage(), e);
+            return plainText(500, "An unexpected error occurred.");
+        }
+
+        log.debug("Exporting {} bookings", snapshot.size());
+        StreamingResponseBody body = out -> writeNdjson(snapshot, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // Streaming endpoints must declare StreamingResponseBody, so error messages are streamed as well
+    private static ResponseEntity<StreamingResponseBody> plainText(int status, String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(out -> out.write(bytes));
+    }
+
+    private void writeNdjson(BookingSnapshot snapshot, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (int i = 0; i < snapshot.size(); i++) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", snapshot.id(i));
+                generator.writeStringField("room", snapshot.room(i).getName());
+                generator.writeStringField("startTime", TimeCodec.format(TimeCodec.slotToMinute(snapshot.startSlot(i))));
+                generator.writeStringField("endTime", TimeCodec.format(TimeCodec.slotToMinute(snapshot.endSlot(i))));
+                generator.writeNumberField("numberOfPeople", snapshot.numberOfPeople(i));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
     private ResponseEntity<String> validateId(String id) {
         if (id == null || !id.matches("^[0-9]+$")) {
             log.error("Invalid ID: {}", id);
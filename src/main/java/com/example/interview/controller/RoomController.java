@@ -2,17 +2,38 @@ package com.example.interview.controller;
 
 import java.util.List;
 
+import com.example.interview.config.OccupancyFeedConfig;
+import com.example.interview.config.RoomResponseConfig;
+import com.example.interview.dto.CatalogReloadResult;
 import com.example.interview.dto.RoomAvailabilityRequest;
+import com.example.interview.dto.RoomSchedule;
+import com.example.interview.dto.UtilizationReport;
+import com.example.interview.exception.RoomNotFoundException;
+import com.example.interview.feed.OccupancyFeed;
 import com.example.interview.model.ConferenceRoom;
+import com.example.interview.service.RoomCatalogService;
 import com.example.interview.service.RoomService;
+import com.example.interview.stats.UtilizationStats;
+import com.example.interview.timing.Phase;
+import com.example.interview.timing.RequestTiming;
+import com.example.interview.utils.ETags;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -22,8 +43,28 @@ public class RoomController {
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private RoomCatalogService roomCatalogService;
+
+    @Autowired
+    private RoomJsonCache roomJsonCache;
+
+    @Autowired
+    private RoomResponseConfig roomResponseConfig;
+
+    @Autowired
+    private OccupancyFeed occupancyFeed;
+
+    @Autowired
+    private OccupancyFeedConfig occupancyFeedConfig;
+
+    @Autowired
+    private UtilizationStats utilizationStats;
+
     @GetMapping("/available")
-    public ResponseEntity<?> getAvailableRooms(@Valid RoomAvailabilityRequest availabilityRequest, BindingResult result) {
+    public ResponseEntity<?> getAvailableRooms(@Valid RoomAvailabilityRequest availabilityRequest, BindingResult result,
+                                               @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                               String acceptEncoding, WebRequest webRequest) {
         log.info("GET /api/rooms/available called");
         log.trace("GET /api/rooms/available request={}", availabilityRequest);
 
@@ -34,15 +75,112 @@ public class RoomController {
         }
 
         try {
+            boolean gzip = roomResponseConfig.isGzip() && acceptsGzip(acceptEncoding);
+            String etag = gzip ? ETags.variant(roomService.getAvailabilityETag(), "gzip")
+                    : roomService.getAvailabilityETag();
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+            }
             log.info("Processing room availability request: {}", availabilityRequest);
             List<ConferenceRoom> availableRooms = roomService.getAvailableRooms(availabilityRequest.getStartTime(),
                                                                                 availabilityRequest.getEndTime());
             log.info("Room availability check successful, found {} rooms", availableRooms.size());
-            return ResponseEntity.ok(availableRooms);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            try (RequestTiming.Span span = RequestTiming.span(Phase.SERIALIZE)) {
+                if (gzip) {
+                    return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                            .body(roomJsonCache.gzip(availableRooms));
+                }
+                return response.body(roomJsonCache.json(availableRooms));
+            }
         } catch (Exception e) {
             log.error("Unexpected error occurred: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body("An unexpected error occurred: " + e.getMessage());
         }
     }
 
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOccupancy(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("GET /api/rooms/events called, lastEventId={}", lastEventId);
+
+        SseEmitter emitter = occupancyFeed.subscribe(lastEventId);
+        if (emitter == null) {
+            log.warn("Occupancy feed is full, rejecting client");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(occupancyFeedConfig.getRetryAfter().toSeconds()))
+                    .build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    @GetMapping("/occupancy")
+    public ResponseEntity<?> getOccupancy(@RequestParam(required = false) String startTime,
+                                          @RequestParam(required = false) String endTime) {
+        log.info("GET /api/rooms/occupancy called");
+
+        try {
+            return ResponseEntity.ok(roomService.getOccupancy(startTime, endTime));
+        } catch (IllegalArgumentException e) {
+            log.error("Occupancy request failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while reading occupancy: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @GetMapping("/utilization")
+    public ResponseEntity<UtilizationReport> getUtilization() {
+        log.info("GET /api/rooms/utilization called");
+        return ResponseEntity.ok(utilizationStats.report());
+    }
+
+    @GetMapping("/{roomName}/schedule")
+    public ResponseEntity<?> getSchedule(@PathVariable String roomName) {
+        log.info("GET /api/rooms/{}/schedule called", roomName);
+
+        try {
+            RoomSchedule schedule = roomService.getSchedule(roomName);
+            return ResponseEntity.ok(schedule);
+        } catch (RoomNotFoundException e) {
+            log.error("Room schedule failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while fetching room schedule: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    @PostMapping("/catalog/reload")
+    public ResponseEntity<?> reloadCatalog() {
+        log.info("POST /api/rooms/catalog/reload called");
+
+        try {
+            CatalogReloadResult reloadResult = roomCatalogService.reload();
+            return ResponseEntity.ok(reloadResult);
+        } catch (IllegalArgumentException e) {
+            log.error("Room catalog reload failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error occurred while reloading the room catalog: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body("An unexpected error occurred.");
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
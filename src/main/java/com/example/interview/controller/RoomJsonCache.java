@@ -0,0 +1,181 @@
+package com.example.interview.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import com.example.interview.config.RoomResponseConfig;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.service.RoomCatalogReloadedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Room lists as JSON, assembled from per-room fragments that are serialized once per catalog instead of per request.
+ * Gzip-compressed lists are cached as well, keyed by which of the catalog's rooms they contain. Rooms that are not
+ * part of the current catalog (a request racing a reload) are serialized on the spot.
+ */
+@Component
+class RoomJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final RoomResponseConfig config;
+
+    private volatile Fragments fragments;
+
+    @Autowired
+    RoomJsonCache(ObjectMapper objectMapper, ConferenceRoomRepository conferenceRoomRepository,
+                  RoomResponseConfig config) {
+        this.objectMapper = objectMapper;
+        this.conferenceRoomRepository = conferenceRoomRepository;
+        this.config = config;
+    }
+
+    @PostConstruct
+    @EventListener(RoomCatalogReloadedEvent.class)
+    public void render() {
+        List<ConferenceRoom> rooms = conferenceRoomRepository.findAll();
+        Map<ConferenceRoom, Fragment> rendered = new IdentityHashMap<>(rooms.size());
+        for (int position = 0; position < rooms.size(); position++) {
+            rendered.put(rooms.get(position), new Fragment(serialize(rooms.get(position)), position));
+        }
+        fragments = new Fragments(rendered);
+    }
+
+    /**
+     * The rooms as a JSON array, identical to serializing the list.
+     */
+    byte[] json(List<ConferenceRoom> rooms) {
+        Fragments current = fragments;
+        byte[][] parts = new byte[rooms.size()][];
+        int length = 2 + Math.max(0, rooms.size() - 1);
+        for (int i = 0; i < parts.length; i++) {
+            Fragment fragment = current.byRoom.get(rooms.get(i));
+            parts[i] = fragment != null ? fragment.json : serialize(rooms.get(i));
+            length += parts[i].length;
+        }
+
+        byte[] json = new byte[length];
+        json[0] = '[';
+        int offset = 1;
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                json[offset++] = ',';
+            }
+            System.arraycopy(parts[i], 0, json, offset, parts[i].length);
+            offset += parts[i].length;
+        }
+        json[offset] = ']';
+        return json;
+    }
+
+    /**
+     * {@link #json} compressed with gzip, cached per set of catalog rooms.
+     */
+    byte[] gzip(List<ConferenceRoom> rooms) {
+        Fragments current = fragments;
+        Positions key = current.key(rooms);
+        if (key == null) {
+            return compress(json(rooms));
+        }
+        byte[] cached = current.gzipped.get(key);
+        if (cached == null) {
+            cached = compress(json(rooms));
+            if (current.gzipped.size() < config.getMaxGzipVariants()) {
+                current.gzipped.putIfAbsent(key, cached);
+            }
+        }
+        return cached;
+    }
+
+    private byte[] serialize(ConferenceRoom room) {
+        try {
+            return objectMapper.writeValueAsBytes(room);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize room '" + room.getName() + "'", e);
+        }
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static final class Fragment {
+        final byte[] json;
+        final int position;
+
+        Fragment(byte[] json, int position) {
+            this.json = json;
+            this.position = position;
+        }
+    }
+
+    private static final class Fragments {
+
+        final Map<ConferenceRoom, Fragment> byRoom;
+        final Map<Positions, byte[]> gzipped = new ConcurrentHashMap<>();
+
+        Fragments(Map<ConferenceRoom, Fragment> byRoom) {
+            this.byRoom = byRoom;
+        }
+
+        /**
+         * The rooms' catalog positions, or null if the list is not an ordered subset of the catalog.
+         */
+        Positions key(List<ConferenceRoom> rooms) {
+            BitSet positions = new BitSet(byRoom.size());
+            int previous = -1;
+            for (ConferenceRoom room : rooms) {
+                Fragment fragment = byRoom.get(room);
+                if (fragment == null || fragment.position <= previous) {
+                    return null;
+                }
+                positions.set(fragment.position);
+                previous = fragment.position;
+            }
+            return new Positions(positions.toLongArray());
+        }
+    }
+
+    /**
+     * Immutable set of catalog positions, compared by content.
+     */
+    private static final class Positions {
+        final long[] words;
+        final int hash;
+
+        Positions(long[] words) {
+            this.words = words;
+            this.hash = Arrays.hashCode(words);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Positions positions && Arrays.equals(words, positions.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
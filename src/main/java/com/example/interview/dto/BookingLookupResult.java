@@ -0,0 +1,14 @@
+package com.example.interview.dto;
+
+import java.util.List;
+
+import com.example.interview.model.Booking;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BookingLookupResult {
+    private List<Booking> bookings;
+    private List<Long> notFound;
+}
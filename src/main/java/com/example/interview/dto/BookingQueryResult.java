@@ -0,0 +1,15 @@
+package com.example.interview.dto;
+
+import java.util.List;
+
+import com.example.interview.model.Booking;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BookingQueryResult {
+    private List<Booking> bookings;
+    // Pass as cursor to get the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,29 @@
+package com.example.interview.dto;
+
+import com.example.interview.validation.TimeOfDay;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * New time and group size for an existing booking; omitted fields keep their current value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingUpdateRequest {
+
+    @TimeOfDay(message = "Invalid start time format. Use HH:mm format.")
+    private String startTime;
+
+    @TimeOfDay(message = "Invalid end time format. Use HH:mm format.")
+    private String endTime;
+
+    @Min(value = 2, message = "Number of people should be greater than 1")
+    @Max(value = 20, message = "Number of people should not exceed the maximum room capacity")
+    private Integer numberOfPeople;
+}
@@ -0,0 +1,24 @@
+package com.example.interview.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCancellationRequest {
+
+    @NotEmpty(message = "Bad Request: At least one booking ID is required")
+    @Size(max = 1000, message = "Bad Request: At most 1000 bookings can be cancelled at once")
+    private List<@NotNull(message = "Invalid ID. ID must be a positive integer.")
+                 @Positive(message = "Invalid ID. ID must be a positive integer.") Long> ids;
+}
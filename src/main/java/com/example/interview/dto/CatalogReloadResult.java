@@ -0,0 +1,27 @@
+package com.example.interview.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CatalogReloadResult {
+    private List<String> added;
+    private List<String> removed;
+    private List<String> changed;
+    // Existing bookings that the new catalog would not allow; they are kept and left for an operator to resolve
+    private List<Conflict> conflicts;
+
+    @Data
+    @AllArgsConstructor
+    public static class Conflict {
+        private long bookingId;
+        private String room;
+        private String startTime;
+        private String endTime;
+        private String reason;
+    }
+}
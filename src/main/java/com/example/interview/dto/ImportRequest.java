@@ -0,0 +1,22 @@
+package com.example.interview.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRequest {
+
+    @NotBlank(message = "Bad Request: Import file path is required")
+    private String path;
+
+    // Derived from the file extension when omitted
+    @Pattern(regexp = "^(?i)(csv|ndjson)$", message = "Bad Request: Format must be 'csv' or 'ndjson'")
+    private String format;
+}
@@ -0,0 +1,24 @@
+package com.example.interview.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ImportResult {
+    private int lines;
+    private int imported;
+    private int rejected;
+    // Only the first errors are listed, see booking-import.max-reported-errors
+    private List<LineError> errors;
+
+    @Data
+    @AllArgsConstructor
+    public static class LineError {
+        private int line;
+        private String message;
+    }
+}
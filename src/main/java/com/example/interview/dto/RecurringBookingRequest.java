@@ -0,0 +1,37 @@
+package com.example.interview.dto;
+
+import java.time.DayOfWeek;
+import java.util.Set;
+
+import com.example.interview.validation.TimeOfDay;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringBookingRequest {
+
+    @NotBlank(message = "Bad Request: Start time is required")
+    @TimeOfDay(message = "Invalid start time format. Use HH:mm format.")
+    private String startTime;
+
+    @NotBlank(message = "Bad Request: End time is required")
+    @TimeOfDay(message = "Invalid end time format. Use HH:mm format.")
+    private String endTime;
+
+    @NotNull(message = "Bad Request: Number of people is required")
+    @Min(value = 2, message = "Number of people should be greater than 1")
+    @Max(value = 20, message = "Number of people should not exceed the maximum room capacity")
+    private Integer numberOfPeople;
+
+    // Every day when empty
+    private Set<DayOfWeek> daysOfWeek;
+}
@@ -0,0 +1,24 @@
+package com.example.interview.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RoomOccupancy {
+    private List<Slot> slots;
+
+    @Data
+    @AllArgsConstructor
+    public static class Slot {
+        private String time;
+        private int bookedRooms;
+        private int freeRooms;
+        // Free rooms with a capacity of at least the key, for each room capacity in the catalog
+        private Map<Integer, Integer> freeRoomsByCapacity;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.interview.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RoomSchedule {
+    private String room;
+    private LocalDate date;
+    // Bookings and recurring occurrences ordered by start time
+    private List<Entry> entries;
+
+    public enum EntryType {
+        BOOKING,
+        RECURRING
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Entry {
+        private EntryType type;
+        private long id;
+        private String startTime;
+        private String endTime;
+        private int numberOfPeople;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.interview.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UtilizationReport {
+    private String openingTime;
+    private String closingTime;
+    private List<RoomUtilization> rooms;
+    private List<HourUtilization> hours;
+    // Opening hours with the highest share of rooms booked
+    private List<String> peakHours;
+    // Counted since startup
+    private long bookingsAdded;
+    private long bookingsRemoved;
+    // Bookings moved or resized in place; not counted as added or removed
+    private long bookingsMoved;
+    private long waitlisted;
+    private long rejected;
+    private Map<String, Long> rejectedByReason;
+
+    @Data
+    @AllArgsConstructor
+    public static class RoomUtilization {
+        private String room;
+        private int capacity;
+        private int bookings;
+        private int bookedMinutes;
+        private double occupancyPercent;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class HourUtilization {
+        private String hour;
+        private double occupancyPercent;
+        // Rejected requests whose interval overlapped this hour
+        private long rejectedRequests;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.interview.exception;
+
+public class BookingWaitlistedException extends RuntimeException {
+
+    private final long bookingId;
+
+    public BookingWaitlistedException(String message, long bookingId) {
+        super(message);
+        this.bookingId = bookingId;
+    }
+
+    public long getBookingId() {
+        return bookingId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.interview.feed;
+
+import lombok.Value;
+
+/**
+ * Payload of a {@code booked} or {@code released} event.
+ */
+@Value
+public class OccupancyChange {
+    String room;
+    String startTime;
+    String endTime;
+    long bookingId;
+}
@@ -0,0 +1,242 @@
+package com.example.interview.feed;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.interview.config.OccupancyFeedConfig;
+import com.example.interview.repo.BookingChange;
+import com.example.interview.repo.BookingChangeListener;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.utils.TimeCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes room occupancy changes to Server-Sent Events clients. Each repository change is formatted once, kept in a
+ * bounded history for clients resuming with {@code Last-Event-ID}, and queued to every client's bounded buffer. A
+ * small pool of sender threads drains the buffers, so a slow client never holds up the repository; one whose buffer
+ * overflows is disconnected and catches up from the history when it reconnects.
+ * <p>
+ * Event ids are {@code <stream>-<version>}, where the stream part changes on every restart, so ids from an earlier
+ * process get a {@code reset} event instead of a wrong replay.
+ */
+@Slf4j
+@Component
+public class OccupancyFeed implements BookingChangeListener {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+
+    private final OccupancyFeedConfig config;
+    private final BookingRepository bookingRepository;
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final ObjectMapper objectMapper;
+
+    private final String stream = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    // Guarded by this; the frame of version v is at v % history.length
+    private final Set<ResponseBodyEmitter.DataWithMediaType>[] history;
+    private int historySize;
+    private long latestVersion;
+
+    private ScheduledExecutorService senders;
+
+    @Autowired
+    public OccupancyFeed(OccupancyFeedConfig config, BookingRepository bookingRepository,
+                         ConferenceRoomRepository conferenceRoomRepository, ObjectMapper objectMapper) {
+        this.config = config;
+        this.bookingRepository = bookingRepository;
+        this.conferenceRoomRepository = conferenceRoomRepository;
+        this.objectMapper = objectMapper;
+        this.history = newHistory(Math.max(1, config.getHistory()));
+    }
+
+    @PostConstruct
+    public void start() {
+        senders = Executors.newScheduledThreadPool(config.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "occupancy-feed-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeat = config.getHeartbeat().toMillis();
+        senders.scheduleAtFixedRate(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        synchronized (this) {
+            latestVersion = bookingRepository.version();
+            bookingRepository.addListener(this);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        bookingRepository.removeListener(this);
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * Opens a stream, replaying the changes after {@code lastEventId} when it is still in the history. Returns
+     * {@code null} if the feed already has {@code occupancy-feed.max-clients} clients.
+     */
+    public synchronized SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= config.getMaxClients()) {
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(config.getTimeout().toMillis()),
+                                               new ArrayBlockingQueue<>(Math.max(1, config.getClientBuffer())));
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+
+        long resumeFrom = parseVersion(lastEventId);
+        long oldest = latestVersion - historySize;
+        if (lastEventId == null) {
+            subscriber.queue.offer(control("sync"));
+        } else if (resumeFrom < oldest || resumeFrom > latestVersion
+                || latestVersion - resumeFrom > subscriber.queue.remainingCapacity()) {
+            subscriber.queue.offer(control("reset"));
+        } else {
+            for (long version = resumeFrom + 1; version <= latestVersion; version++) {
+                subscriber.queue.offer(history[(int) (version % history.length)]);
+            }
+        }
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return subscriber.emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public synchronized void bookingChanged(BookingChange change) {
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = toFrame(change);
+        history[(int) (change.getVersion() % history.length)] = frame;
+        historySize = Math.min(historySize + 1, history.length);
+        latestVersion = change.getVersion();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(frame)) {
+                schedule(subscriber);
+            } else {
+                drop(subscriber);
+            }
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> toFrame(BookingChange change) {
+        if (change.getType() == BookingChange.Type.CLEARED) {
+            return frame(change.getVersion(), "reset", "{}");
+        }
+        OccupancyChange data = new OccupancyChange(conferenceRoomRepository.findByIndex(change.getRoom()).getName(),
+                                                   TimeCodec.format(TimeCodec.slotToMinute(change.getStartSlot())),
+                                                   TimeCodec.format(TimeCodec.slotToMinute(change.getEndSlot())),
+                                                   change.getBookingId());
+        String name = change.getType() == BookingChange.Type.ADDED ? "booked" : "released";
+        try {
+            return frame(change.getVersion(), name, objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not format occupancy change " + change.getVersion(), e);
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> control(String name) {
+        return frame(latestVersion, name, "{}");
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(long version, String name, String data) {
+        return SseEmitter.event().id(stream + "-" + version).name(name).data(data).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<ResponseBodyEmitter.DataWithMediaType>[] newHistory(int size) {
+        return new Set[size];
+    }
+
+    private long parseVersion(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(stream + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(stream.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(HEARTBEAT)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Marks a slow client for disconnection; the sender completes its stream so this never blocks on its socket.
+     */
+    private void drop(Subscriber subscriber) {
+        log.debug("Dropping occupancy feed client that fell {} events behind", subscriber.queue.size());
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> frame;
+            while ((frame = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(subscriber);
+                    subscriber.closed = true;
+                    return;
+                }
+            }
+            subscriber.scheduled.set(false);
+        } while ((!subscriber.queue.isEmpty() || subscriber.closed) && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
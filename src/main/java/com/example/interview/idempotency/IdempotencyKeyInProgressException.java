@@ -0,0 +1,7 @@
+package com.example.interview.idempotency;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.interview.idempotency;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.interview.idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.example.interview.config.IdempotencyConfig;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, time-expiring store of results keyed by client-supplied idempotency keys. The first request for a key runs
+ * the action; repeats get the stored result and concurrent duplicates wait for the in-flight one instead of running
+ * it again. Entries whose action is still running are never evicted, so a retry cannot run it a second time.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyConfig config;
+
+    // Insertion order equals expiry order because every entry gets the same TTL
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    @Autowired
+    public IdempotencyStore(IdempotencyConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * @param fingerprint identifies the request; reusing a key for a different request is rejected
+     * @param cacheable   results that may be replayed; others are forgotten so a retry runs the action again
+     */
+    public <T> Outcome<T> execute(String key, Object fingerprint, Supplier<T> action, Predicate<T> cacheable) {
+        if (key.isEmpty() || key.length() > config.getMaxKeyLength()) {
+            throw new IllegalArgumentException(
+                    "Idempotency-Key must be between 1 and " + config.getMaxKeyLength() + " characters.");
+        }
+
+        Entry entry;
+        boolean owner = false;
+        long now = System.nanoTime();
+        synchronized (entries) {
+            evictExpired(now);
+            entry = entries.get(key);
+            if (entry == null) {
+                if (entries.size() >= config.getMaxEntries() && !evictEldestCompleted()) {
+                    throw new IdempotencyStoreFullException("Too many requests with an Idempotency-Key are in progress.");
+                }
+                entry = new Entry(fingerprint, now + config.getTtl().toNanos());
+                entries.put(key, entry);
+                owner = true;
+            }
+        }
+
+        if (!Objects.equals(entry.fingerprint, fingerprint)) {
+            throw new IdempotencyKeyReuseException("Idempotency-Key " + key + " was already used for a different request.");
+        }
+        if (!owner) {
+            return new Outcome<>(await(key, entry), true);
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            forget(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+        if (!cacheable.test(result)) {
+            forget(key, entry);
+        }
+        entry.result.complete(result);
+        return new Outcome<>(result, false);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(String key, Entry entry) {
+        try {
+            return (T) entry.result.get(config.getWaitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(
+                    "The request with Idempotency-Key " + key + " is still in progress.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(
+                    "The request with Idempotency-Key " + key + " is still in progress.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void forget(String key, Entry entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt - now > 0) {
+                break;
+            }
+            if (entry.result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest entry whose action has finished; returns false if every entry is still running.
+     */
+    private boolean evictEldestCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().result.isDone()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Value
+    public static class Outcome<T> {
+        T value;
+        boolean replayed;
+    }
+
+    private static class Entry {
+        final Object fingerprint;
+        final long expiresAt;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        Entry(Object fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.interview.idempotency;
+
+public class IdempotencyStoreFullException extends RuntimeException {
+    public IdempotencyStoreFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.interview.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.SortedSet;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class RecurringBooking {
+    private Long id;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private int numberOfPeople;
+    private ConferenceRoom room;
+    private Set<DayOfWeek> daysOfWeek;
+    // Single occurrences that were cancelled
+    private SortedSet<LocalDate> cancelledDates;
+}
@@ -0,0 +1,18 @@
+package com.example.interview.model;
+
+import java.time.Instant;
+import java.time.LocalTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class WaitlistEntry {
+    // Booking id the request receives once a room is allocated
+    private Long id;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private int numberOfPeople;
+    private Instant requestedAt;
+}
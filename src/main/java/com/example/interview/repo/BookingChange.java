@@ -0,0 +1,31 @@
+package com.example.interview.repo;
+
+import lombok.Value;
+
+/**
+ * A single mutation of the booking repository. Versions increase by one per change, in the order the changes were
+ * applied.
+ */
+@Value
+public class BookingChange {
+    long version;
+    Type type;
+    long bookingId;
+    int room;
+    int startSlot;
+    int endSlot;
+    /**
+     * Whether this is one half of a booking being moved or stored again: its REMOVED change of the old interval
+     * directly followed by the ADDED change of the new one.
+     */
+    boolean moved;
+
+    public enum Type {
+        ADDED,
+        REMOVED,
+        /**
+         * Every booking was removed; the other fields are unset.
+         */
+        CLEARED
+    }
+}
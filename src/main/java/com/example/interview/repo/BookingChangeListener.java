@@ -0,0 +1,10 @@
+package com.example.interview.repo;
+
+/**
+ * Notified of every booking change while the repository's write lock is held, so implementations must not block.
+ */
+@FunctionalInterface
+public interface BookingChangeListener {
+
+    void bookingChanged(BookingChange change);
+}
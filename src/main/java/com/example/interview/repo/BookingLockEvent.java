@@ -0,0 +1,28 @@
+package com.example.interview.repo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a wait on the booking repository's write lock; the event's duration is the wait.
+ */
+@Name("com.example.interview.BookingLock")
+@Label("Booking Lock Wait")
+@Category({"Conference Rooms", "Booking"})
+@Description("Wait to acquire the booking repository's write lock")
+@StackTrace(false)
+@Threshold("1 ms")
+class BookingLockEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Queued Threads")
+    @Description("Threads still waiting for the lock once it was acquired")
+    int queueLength;
+}
@@ -0,0 +1,17 @@
+package com.example.interview.repo;
+
+import java.util.List;
+
+import com.example.interview.model.Booking;
+import lombok.Value;
+
+/**
+ * One page of {@link BookingRepository#page}.
+ */
+@Value
+public class BookingPage {
+
+    List<Booking> bookings;
+    // Position to pass as {@code after} for the next page, or -1 if this is the last page
+    long next;
+}
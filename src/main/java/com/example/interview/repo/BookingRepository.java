@@ -1,49 +1,686 @@
 package com.example.interview.repo;
 
+import java.nio.file.Path;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import com.example.interview.config.BookingStoreConfig;
 import com.example.interview.model.Booking;
 import com.example.interview.model.ConferenceRoom;
+import com.example.interview.utils.TimeCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+/**
+ * Stores bookings as primitive records in a {@link BookingStore}, either on the heap or in a memory-mapped file;
+ * {@link Booking} objects are only created as views for callers. A {@link RoomTimeIndex} keeps each room's bookings
+ * ordered by start time for overlap and range queries.
+ */
+@Slf4j
 @Repository
 public class BookingRepository {
 
-    private final List<Booking> bookings = new ArrayList<>();
+    // Page positions pack the room index above the room's index entry, which fits in 39 bits
+    private static final int POSITION_ROOM_SHIFT = 40;
+    private static final long POSITION_KEY_MASK = (1L << POSITION_ROOM_SHIFT) - 1;
+    private static final Predicate<Booking> NO_CONFLICT = booking -> false;
+
+    private final ConferenceRoomRepository conferenceRoomRepository;
+
+    private final BookingStore store;
+    private final RoomTimeIndex roomIndex = new RoomTimeIndex();
+    private final SlotOccupancy slotOccupancy = new SlotOccupancy();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<BookingChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private long version;
+    // Version of the latest change per store row
+    private long[] rowVersions = new long[0];
+
+    @Autowired
+    public BookingRepository(ConferenceRoomRepository conferenceRoomRepository, BookingStoreConfig config) {
+        this.conferenceRoomRepository = conferenceRoomRepository;
+        this.store = createStore(config, conferenceRoomRepository);
+        for (int row = 0, end = store.highWaterMark(); row < end; row++) {
+            if (store.isLive(row)) {
+                roomIndex.add(store.room(row), store.startSlot(row), store.endSlot(row), row);
+                slotOccupancy.add(store.room(row), store.startSlot(row), store.endSlot(row));
+            }
+        }
+        bindSlotCounts();
+    }
+
+    private static BookingStore createStore(BookingStoreConfig config, ConferenceRoomRepository rooms) {
+        if (config.getType() == BookingStoreConfig.StoreType.MAPPED) {
+            MappedBookingStore store = new MappedBookingStore(Path.of(config.getFile()), config.getSegmentRecords(),
+                                                              config.getMaxRecords(),
+                                                              index -> rooms.findByIndex(index).getName(),
+                                                              rooms::indexOf);
+            log.info("Opened booking file {} with {} bookings", config.getFile(), store.size());
+            return store;
+        }
+        return new HeapBookingStore();
+    }
 
     public void save(Booking booking) {
-        bookings.add(booking);
+        int room = roomIndexOf(booking.getRoom());
+        int startMinute = TimeCodec.minuteOfDay(booking.getStartTime());
+        int endMinute = TimeCodec.minuteOfDay(booking.getEndTime());
+        if (!TimeCodec.isSlotAligned(startMinute) || !TimeCodec.isSlotAligned(endMinute)) {
+            throw new IllegalArgumentException("Booking times must be in 15-minute intervals.");
+        }
+        int startSlot = TimeCodec.toSlot(startMinute);
+        int endSlot = TimeCodec.toSlot(endMinute);
+
+        lockForWrite("save");
+        try {
+            int existing = store.rowOf(booking.getId());
+            if (existing != BookingStore.NO_ROW) {
+                changed(BookingChange.Type.REMOVED, existing, true);
+                roomIndex.remove(store.room(existing), store.startSlot(existing), existing);
+                slotOccupancy.remove(store.room(existing), store.startSlot(existing), store.endSlot(existing));
+            }
+            int row = store.put(booking.getId(), room, startSlot, endSlot, booking.getNumberOfPeople());
+            roomIndex.add(room, startSlot, endSlot, row);
+            slotOccupancy.add(room, startSlot, endSlot);
+            changed(BookingChange.Type.ADDED, row, existing != BookingStore.NO_ROW);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the booking unless its id is taken or it overlaps a stored booking in the same room. The check and the
+     * insert happen under one write lock, so two callers can never both reserve the same time.
+     */
+    public InsertOutcome insert(Booking booking) {
+        return insert(booking, NO_CONFLICT);
+    }
+
+    /**
+     * Like {@link #insert(Booking)}, also reporting {@link InsertOutcome#OVERLAP} when {@code conflicts} accepts the
+     * booking. {@code conflicts} is tested under the write lock, so reservations made elsewhere under
+     * {@link #exclusively} cannot slip in between the check and the insert.
+     */
+    public InsertOutcome insert(Booking booking, Predicate<Booking> conflicts) {
+        lockForWrite("insert");
+        try {
+            return insertRow(booking, conflicts);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts the bookings in order under one write lock, skipping those whose id is already stored or that overlap a
+     * stored booking (including ones inserted earlier in the same call) or that {@code conflicts} accepts.
+     */
+    public InsertOutcome[] insertAll(List<Booking> bookings, Predicate<Booking> conflicts) {
+        InsertOutcome[] outcomes = new InsertOutcome[bookings.size()];
+        lockForWrite("insertAll");
+        try {
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = insertRow(bookings.get(i), conflicts);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return outcomes;
+    }
+
+    /**
+     * Runs {@code action} while holding the write lock, so no booking is stored or moved until it returns. The action
+     * may read from this repository.
+     */
+    public <T> T exclusively(Supplier<T> action) {
+        lockForWrite("exclusively");
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private InsertOutcome insertRow(Booking booking, Predicate<Booking> conflicts) {
+        int room = roomIndexOf(booking.getRoom());
+        int startSlot = TimeCodec.toSlot(TimeCodec.minuteOfDay(booking.getStartTime()));
+        int endSlot = TimeCodec.toSlot(TimeCodec.minuteOfDay(booking.getEndTime()));
+        if (store.rowOf(booking.getId()) != BookingStore.NO_ROW) {
+            return InsertOutcome.DUPLICATE_ID;
+        }
+        if (roomIndex.anyCandidate(room, startSlot, endSlot, row -> store.endSlot(row) > startSlot)
+                || conflicts.test(booking)) {
+            return InsertOutcome.OVERLAP;
+        }
+        int row = store.put(booking.getId(), room, startSlot, endSlot, booking.getNumberOfPeople());
+        roomIndex.add(room, startSlot, endSlot, row);
+        slotOccupancy.add(room, startSlot, endSlot);
+        changed(BookingChange.Type.ADDED, row, false);
+        return InsertOutcome.INSERTED;
+    }
+
+    /**
+     * Replaces the stored booking with the same id by {@code booking}, unless that overlaps another booking in its
+     * room or {@code conflicts} accepts it. The booking's own time does not count as taken, and the old time is only
+     * released once the new one is stored, under the same write lock.
+     */
+    public MoveOutcome move(Booking booking, Predicate<Booking> conflicts) {
+        int room = roomIndexOf(booking.getRoom());
+        int startSlot = TimeCodec.toSlot(TimeCodec.minuteOfDay(booking.getStartTime()));
+        int endSlot = TimeCodec.toSlot(TimeCodec.minuteOfDay(booking.getEndTime()));
+
+        lockForWrite("move");
+        try {
+            int existing = booking.getId() == null ? BookingStore.NO_ROW : store.rowOf(booking.getId());
+            if (existing == BookingStore.NO_ROW) {
+                return MoveOutcome.NOT_FOUND;
+            }
+            if (roomIndex.anyCandidate(room, startSlot, endSlot,
+                                       row -> row != existing && store.endSlot(row) > startSlot)
+                    || conflicts.test(booking)) {
+                return MoveOutcome.OVERLAP;
+            }
+            removeRow(existing, true);
+            int row = store.put(booking.getId(), room, startSlot, endSlot, booking.getNumberOfPeople());
+            roomIndex.add(room, startSlot, endSlot, row);
+            slotOccupancy.add(room, startSlot, endSlot);
+            changed(BookingChange.Type.ADDED, row, true);
+            return MoveOutcome.MOVED;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     public List<Booking> findByRoom(ConferenceRoom room) {
-        return bookings.stream()
-                .filter(booking -> booking.getRoom().equals(room))
-                .collect(Collectors.toList());
+        int index = conferenceRoomRepository.indexOf(room);
+        List<Booking> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            roomIndex.forEach(index, row -> result.add(toBooking(row)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
     }
 
+    /**
+     * Bookings that overlap or touch the given times; a booking ending exactly at {@code startTime} is included.
+     */
     public List<Booking> findByRoomAndTime(ConferenceRoom room, LocalTime startTime, LocalTime endTime) {
-        return bookings.stream()
-                .filter(booking -> booking.getRoom().equals(room) &&
-                        !endTime.isBefore(booking.getStartTime()) &&
-                        !startTime.isAfter(booking.getEndTime()))
-                .collect(Collectors.toList());
+        int index = conferenceRoomRepository.indexOf(room);
+        int start = TimeCodec.minuteOfDay(startTime);
+        int end = TimeCodec.minuteOfDay(endTime);
+        int fromSlot = TimeCodec.ceilSlot(start) - 1;
+        int toSlot = TimeCodec.toSlot(end) + 1;
+        List<Booking> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            roomIndex.forEachCandidate(index, fromSlot, toSlot, row -> {
+                if (store.endSlot(row) > fromSlot) {
+                    result.add(toBooking(row));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public boolean existsOverlapping(ConferenceRoom room, int startMinute, int endMinute) {
+        int index = conferenceRoomRepository.indexOf(room);
+        lock.readLock().lock();
+        try {
+            int fromSlot = TimeCodec.toSlot(startMinute);
+            return roomIndex.anyCandidate(index, fromSlot, TimeCodec.ceilSlot(endMinute),
+                                          row -> store.endSlot(row) > fromSlot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indices of the rooms with a booking overlapping {@code [startMinute, endMinute)}, found with one OR per slot
+     * instead of a check per room.
+     */
+    public BitSet occupiedRooms(int startMinute, int endMinute) {
+        lock.readLock().lock();
+        try {
+            return slotOccupancy.occupied(TimeCodec.toSlot(startMinute), TimeCodec.ceilSlot(endMinute));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether some slot of {@code [startMinute, endMinute)} has every active room booked, in which case every room has
+     * a booking overlapping the interval. Costs a counter comparison per slot. Answers false while the counters still
+     * follow a previous catalog, so callers fall back to looking at the rooms.
+     */
+    public boolean isFullyBooked(int startMinute, int endMinute) {
+        int fromSlot = TimeCodec.toSlot(startMinute);
+        int toSlot = TimeCodec.ceilSlot(endMinute);
+        lock.readLock().lock();
+        try {
+            return slotOccupancy.catalogVersion() == conferenceRoomRepository.version()
+                    && slotOccupancy.anyFullyBooked(fromSlot, toSlot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Booked and free active rooms at each slot overlapping {@code [startMinute, endMinute)}, by capacity, read from
+     * counters maintained with the bookings. Rooms in {@code alsoBooked[slot]} (indexed by slot of day, {@code null}
+     * for none) count as booked at that slot as well. The counters follow the catalog of the last
+     * {@link #bindCatalog}.
+     */
+    public FreeRoomCounts freeRooms(int startMinute, int endMinute, BitSet[] alsoBooked) {
+        int fromSlot = TimeCodec.toSlot(startMinute);
+        int toSlot = TimeCodec.ceilSlot(endMinute);
+        lock.readLock().lock();
+        try {
+            return slotOccupancy.freeRooms(fromSlot, toSlot, alsoBooked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebinds the per-slot counters to the current catalog, at a cost linear in the rooms. Called once the catalog
+     * has been reloaded, so requests never pay for it.
+     */
+    public void bindCatalog() {
+        lockForWrite("bindCatalog");
+        try {
+            bindSlotCounts();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void bindSlotCounts() {
+        // Indices are never reused, so the indexed rooms read last cover every active room read before them
+        long catalogVersion = conferenceRoomRepository.version();
+        List<ConferenceRoom> active = conferenceRoomRepository.findAll();
+        int rooms = conferenceRoomRepository.findAllIndexed().size();
+        int[] capacities = new int[rooms];
+        BitSet[] maintenance = new BitSet[rooms];
+        Arrays.setAll(maintenance, index -> new BitSet());
+        for (ConferenceRoom room : active) {
+            int index = conferenceRoomRepository.indexOf(room);
+            capacities[index] = room.getCapacity();
+            for (LocalTime[] window : room.getMaintenanceSchedule()) {
+                maintenance[index].set(TimeCodec.toSlot(TimeCodec.minuteOfDay(window[0])),
+                                       TimeCodec.ceilSlot(TimeCodec.minuteOfDay(window[1])));
+            }
+        }
+        slotOccupancy.bind(catalogVersion, capacities, maintenance);
+    }
+
+    /**
+     * Copies the bookings overlapping {@code [startMinute, endMinute)} under a single read lock, ordered by room and
+     * start time. A {@code null} room selects every room, including rooms retired from the catalog.
+     */
+    public BookingSnapshot snapshot(ConferenceRoom room, int startMinute, int endMinute) {
+        int fromSlot = TimeCodec.toSlot(startMinute);
+        int toSlot = TimeCodec.ceilSlot(endMinute);
+        lock.readLock().lock();
+        try {
+            List<ConferenceRoom> rooms = conferenceRoomRepository.findAllIndexed();
+            int first = room == null ? 0 : roomIndexOf(room);
+            int last = room == null ? rooms.size() - 1 : first;
+            BookingSnapshot snapshot = new BookingSnapshot(rooms, room == null ? store.size() : roomIndex.size(first));
+            for (int index = first; index <= last; index++) {
+                roomIndex.forEachCandidate(index, fromSlot, toSlot, row -> {
+                    if (store.endSlot(row) > fromSlot) {
+                        snapshot.add(store.id(row), store.room(row), store.startSlot(row), store.endSlot(row),
+                                     store.numberOfPeople(row));
+                    }
+                });
+            }
+            return snapshot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} bookings overlapping {@code [startMinute, endMinute)} with at least {@code minPeople} people,
+     * ordered by room and start time, starting after position {@code after} (-1 for the first page). A {@code null}
+     * room selects every room. Each page seeks into the room indexes, so later pages cost no more than the first.
+     */
+    public BookingPage page(ConferenceRoom room, int startMinute, int endMinute, int minPeople, long after, int limit) {
+        int fromSlot = TimeCodec.toSlot(startMinute);
+        int toSlot = TimeCodec.ceilSlot(endMinute);
+        int afterRoom = after < 0 ? -1 : (int) (after >>> POSITION_ROOM_SHIFT);
+        List<Booking> bookings = new ArrayList<>(Math.min(limit, 1024));
+        long[] last = {-1};
+        lock.readLock().lock();
+        try {
+            int first = room == null ? 0 : roomIndexOf(room);
+            int lastRoom = room == null ? conferenceRoomRepository.findAllIndexed().size() - 1 : first;
+            boolean more = false;
+            for (int index = Math.max(first, afterRoom); index <= lastRoom && !more; index++) {
+                int current = index;
+                long afterKey = index == afterRoom ? after & POSITION_KEY_MASK : -1;
+                more = roomIndex.seekCandidate(index, fromSlot, toSlot, afterKey, key -> {
+                    int row = RoomTimeIndex.row(key);
+                    if (store.endSlot(row) <= fromSlot || store.numberOfPeople(row) < minPeople) {
+                        return false;
+                    }
+                    if (bookings.size() == limit) {
+                        return true;
+                    }
+                    bookings.add(toBooking(row));
+                    last[0] = (long) current << POSITION_ROOM_SHIFT | key;
+                    return false;
+                }) >= 0;
+            }
+            return new BookingPage(bookings, more ? last[0] : -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The stored bookings among {@code ids}, in the order given, read under a single lock.
+     */
+    public List<Booking> findAllById(Collection<Long> ids) {
+        List<Booking> found = new ArrayList<>(ids.size());
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                int row = id == null ? BookingStore.NO_ROW : store.rowOf(id);
+                if (row != BookingStore.NO_ROW) {
+                    found.add(toBooking(row));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
     }
 
     public Optional<Booking> findById(Long id) {
-        return bookings.stream()
-                .filter(booking -> booking.getId().equals(id))
-                .findFirst();
+        if (id == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int row = store.rowOf(id);
+            return row == BookingStore.NO_ROW ? Optional.empty() : Optional.of(toBooking(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the booking and returns it as it was removed, or empty if no booking has the id. Of several concurrent
+     * deletes of the same id exactly one sees the booking.
+     */
+    public Optional<Booking> deleteById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        lockForWrite("deleteById");
+        try {
+            int row = store.rowOf(id);
+            if (row == BookingStore.NO_ROW) {
+                return Optional.empty();
+            }
+            Booking removed = toBooking(row);
+            removeRow(row);
+            return Optional.of(removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every booking with one of the given ids in a single operation and returns the removed bookings.
+     */
+    public List<Booking> deleteAllById(Collection<Long> ids) {
+        List<Booking> removed = new ArrayList<>();
+        lockForWrite("deleteAllById");
+        try {
+            for (Long id : ids) {
+                int row = id == null ? BookingStore.NO_ROW : store.rowOf(id);
+                if (row != BookingStore.NO_ROW) {
+                    removed.add(toBooking(row));
+                    removeRow(row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return removed;
+    }
+
+    public List<Booking> deleteByRoom(ConferenceRoom room) {
+        int index = roomIndexOf(room);
+        lockForWrite("deleteByRoom");
+        try {
+            List<Integer> rows = new ArrayList<>(roomIndex.size(index));
+            roomIndex.forEach(index, rows::add);
+            return removeRows(rows);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
-    public void deleteById(Long id) {
-        bookings.removeIf(booking -> booking.getId().equals(id));
+    /**
+     * Removes the room's bookings that overlap {@code [startMinute, endMinute)} and returns them in start order.
+     */
+    public List<Booking> deleteByRoomAndTime(ConferenceRoom room, int startMinute, int endMinute) {
+        int index = roomIndexOf(room);
+        lockForWrite("deleteByRoomAndTime");
+        try {
+            return removeRows(overlappingRows(index, startMinute, endMinute));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return store.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Largest booking id the underlying store can hold.
+     */
+    public long maxAddressableId() {
+        return store.maxAddressableId();
+    }
+
+    /**
+     * Highest booking id ever stored, so id generation can resume after a restart of a persistent store.
+     */
+    public long maxId() {
+        lock.readLock().lock();
+        try {
+            return store.maxId();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public void clear() {
-        bookings.clear();
+        lockForWrite("clear");
+        try {
+            store.clear();
+            roomIndex.clear();
+            slotOccupancy.clear();
+            version++;
+            Arrays.fill(rowVersions, 0);
+            notifyListeners(new BookingChange(version, BookingChange.Type.CLEARED, 0, -1, 0, 0, false));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Version of the latest change; see {@link BookingChange}.
+     */
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Version of the change that stored the booking, 0 if it was loaded at startup, or -1 if there is no such booking.
+     */
+    public long bookingVersion(Long id) {
+        if (id == null) {
+            return -1;
+        }
+        lock.readLock().lock();
+        try {
+            int row = store.rowOf(id);
+            if (row == BookingStore.NO_ROW) {
+                return -1;
+            }
+            return row < rowVersions.length ? rowVersions[row] : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addListener(BookingChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(BookingChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Takes the write lock, recording the wait in a {@link BookingLockEvent} when that event is enabled.
+     */
+    private void lockForWrite(String operation) {
+        BookingLockEvent event = new BookingLockEvent();
+        event.begin();
+        lock.writeLock().lock();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.queueLength = lock.getQueueLength();
+            event.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            store.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public enum InsertOutcome {
+        INSERTED,
+        DUPLICATE_ID,
+        OVERLAP
+    }
+
+    public enum MoveOutcome {
+        MOVED,
+        NOT_FOUND,
+        OVERLAP
+    }
+
+    private List<Integer> overlappingRows(int room, int startMinute, int endMinute) {
+        int fromSlot = TimeCodec.toSlot(startMinute);
+        int toSlot = TimeCodec.ceilSlot(endMinute);
+        List<Integer> rows = new ArrayList<>();
+        roomIndex.forEachCandidate(room, fromSlot, toSlot, row -> {
+            if (store.endSlot(row) > fromSlot) {
+                rows.add(row);
+            }
+        });
+        return rows;
+    }
+
+    private List<Booking> removeRows(List<Integer> rows) {
+        List<Booking> removed = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            removed.add(toBooking(row));
+            removeRow(row);
+        }
+        return removed;
+    }
+
+    private void removeRow(int row) {
+        removeRow(row, false);
+    }
+
+    private void removeRow(int row, boolean moved) {
+        if (row == BookingStore.NO_ROW) {
+            return;
+        }
+        changed(BookingChange.Type.REMOVED, row, moved);
+        roomIndex.remove(store.room(row), store.startSlot(row), row);
+        slotOccupancy.remove(store.room(row), store.startSlot(row), store.endSlot(row));
+        store.remove(store.id(row));
+    }
+
+    private void changed(BookingChange.Type type, int row, boolean moved) {
+        version++;
+        if (type == BookingChange.Type.ADDED) {
+            if (row >= rowVersions.length) {
+                rowVersions = Arrays.copyOf(rowVersions, Math.max(row + 1, rowVersions.length * 2));
+            }
+            rowVersions[row] = version;
+        }
+        notifyListeners(new BookingChange(version, type, store.id(row), store.room(row), store.startSlot(row),
+                                          store.endSlot(row), moved));
+    }
+
+    private void notifyListeners(BookingChange change) {
+        for (BookingChangeListener listener : listeners) {
+            try {
+                listener.bookingChanged(change);
+            } catch (RuntimeException e) {
+                log.error("Booking change listener failed for version {}", change.getVersion(), e);
+            }
+        }
+    }
+
+    private int roomIndexOf(ConferenceRoom room) {
+        int index = conferenceRoomRepository.indexOf(room);
+        if (index < 0) {
+            throw new IllegalArgumentException("Room '" + room.getName() + "' is not part of the room catalog.");
+        }
+        return index;
+    }
+
+    private Booking toBooking(int row) {
+        return Booking.builder()
+                .id(store.id(row))
+                .room(conferenceRoomRepository.findByIndex(store.room(row)))
+                .startTime(TimeCodec.toLocalTime(TimeCodec.slotToMinute(store.startSlot(row))))
+                .endTime(TimeCodec.toLocalTime(TimeCodec.slotToMinute(store.endSlot(row))))
+                .numberOfPeople(store.numberOfPeople(row))
+                .build();
     }
 }
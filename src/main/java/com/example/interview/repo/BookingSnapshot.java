@@ -0,0 +1,74 @@
+package com.example.interview.repo;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.interview.model.ConferenceRoom;
+
+/**
+ * Point-in-time copy of booking records in primitive columns (16 bytes per booking), so they can be read after the
+ * repository lock is released without building a {@link com.example.interview.model.Booking} per record. Room indexes
+ * are kept as ints: stable indexes are never reused, so they outgrow a short after enough catalog reloads.
+ */
+public class BookingSnapshot {
+
+    private final List<ConferenceRoom> rooms;
+
+    private long[] ids;
+    private int[] roomIndexes;
+    private byte[] startSlots;
+    private byte[] endSlots;
+    private short[] numberOfPeople;
+    private int size;
+
+    public BookingSnapshot(List<ConferenceRoom> rooms, int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        this.rooms = rooms;
+        this.ids = new long[capacity];
+        this.roomIndexes = new int[capacity];
+        this.startSlots = new byte[capacity];
+        this.endSlots = new byte[capacity];
+        this.numberOfPeople = new short[capacity];
+    }
+
+    public void add(long id, int room, int startSlot, int endSlot, int people) {
+        if (size == ids.length) {
+            int capacity = size + (size >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            roomIndexes = Arrays.copyOf(roomIndexes, capacity);
+            startSlots = Arrays.copyOf(startSlots, capacity);
+            endSlots = Arrays.copyOf(endSlots, capacity);
+            numberOfPeople = Arrays.copyOf(numberOfPeople, capacity);
+        }
+        ids[size] = id;
+        roomIndexes[size] = room;
+        startSlots[size] = (byte) startSlot;
+        endSlots[size] = (byte) endSlot;
+        numberOfPeople[size] = (short) people;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int i) {
+        return ids[i];
+    }
+
+    public ConferenceRoom room(int i) {
+        return rooms.get(roomIndexes[i]);
+    }
+
+    public int startSlot(int i) {
+        return startSlots[i];
+    }
+
+    public int endSlot(int i) {
+        return endSlots[i];
+    }
+
+    public int numberOfPeople(int i) {
+        return numberOfPeople[i];
+    }
+}
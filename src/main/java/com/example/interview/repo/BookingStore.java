@@ -0,0 +1,49 @@
+package com.example.interview.repo;
+
+/**
+ * Row-oriented storage of bookings as primitive fields. Rows are dense indexes below {@link #highWaterMark()};
+ * callers check {@link #isLive(int)} when iterating. Implementations are not thread-safe.
+ */
+interface BookingStore extends AutoCloseable {
+
+    int NO_ROW = -1;
+
+    int put(long id, int room, int startSlot, int endSlot, int numberOfPeople);
+
+    int rowOf(long id);
+
+    boolean remove(long id);
+
+    void clear();
+
+    int size();
+
+    int highWaterMark();
+
+    boolean isLive(int row);
+
+    long id(int row);
+
+    int room(int row);
+
+    int startSlot(int row);
+
+    int endSlot(int row);
+
+    int numberOfPeople(int row);
+
+    long maxId();
+
+    /**
+     * Largest booking id the store can hold; {@link #put} rejects larger ones.
+     */
+    long maxAddressableId();
+
+    /**
+     * Heap bytes retained by the store itself.
+     */
+    long footprintBytes();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,185 @@
+package com.example.interview.repo;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.utils.TimeCodec;
+
+/**
+ * Bitsets over room indices derived from one catalog: the active rooms, the rooms with a maintenance window in each
+ * 15-minute slot, and the rooms of each capacity band. Combined with {@link BookingRepository#occupiedRooms}, they
+ * answer whole-catalog availability questions with word operations instead of a check per room. Immutable.
+ */
+public final class CatalogMasks {
+
+    private final List<ConferenceRoom> rooms;
+    private final int[] positions;
+    private final BitSet active = new BitSet();
+    private final BitSet[] maintenanceBySlot = new BitSet[TimeCodec.SLOTS_PER_DAY];
+    private final int[][] maintenanceMinutes;
+    private final int[] bandCapacities;
+    private final BitSet[] bands;
+
+    /**
+     * @param indexes the room index of each active room, by catalog position
+     * @param indexCount number of room indices ever assigned, retired rooms included
+     */
+    CatalogMasks(List<ConferenceRoom> rooms, int[] indexes, int indexCount) {
+        this.rooms = rooms;
+        this.positions = new int[indexCount];
+        this.maintenanceMinutes = new int[indexCount][];
+        Arrays.fill(positions, -1);
+        for (int slot = 0; slot < maintenanceBySlot.length; slot++) {
+            maintenanceBySlot[slot] = new BitSet();
+        }
+
+        for (int position = 0; position < rooms.size(); position++) {
+            ConferenceRoom room = rooms.get(position);
+            int index = indexes[position];
+            positions[index] = position;
+            active.set(index);
+            List<LocalTime[]> windows = room.getMaintenanceSchedule();
+            int[] minutes = new int[windows.size() * 2];
+            for (int w = 0; w < windows.size(); w++) {
+                minutes[2 * w] = TimeCodec.minuteOfDay(windows.get(w)[0]);
+                minutes[2 * w + 1] = TimeCodec.minuteOfDay(windows.get(w)[1]);
+                int endSlot = Math.min(maintenanceBySlot.length,
+                                       TimeCodec.ceilSlot(minutes[2 * w + 1]));
+                for (int slot = TimeCodec.toSlot(minutes[2 * w]); slot < endSlot; slot++) {
+                    maintenanceBySlot[slot].set(index);
+                }
+            }
+            maintenanceMinutes[index] = minutes;
+        }
+
+        bandCapacities = rooms.stream().mapToInt(ConferenceRoom::getCapacity).distinct().sorted().toArray();
+        bands = new BitSet[bandCapacities.length];
+        for (int band = 0; band < bands.length; band++) {
+            bands[band] = new BitSet();
+        }
+        for (int position = 0; position < rooms.size(); position++) {
+            bands[Arrays.binarySearch(bandCapacities, rooms.get(position).getCapacity())].set(indexes[position]);
+        }
+    }
+
+    /**
+     * The active rooms in catalog order.
+     */
+    public List<ConferenceRoom> rooms() {
+        return rooms;
+    }
+
+    public BitSet active() {
+        return (BitSet) active.clone();
+    }
+
+    /**
+     * Active rooms with a maintenance window overlapping {@code [startMinute, endMinute)} to the minute.
+     */
+    public BitSet maintenance(int startMinute, int endMinute) {
+        BitSet candidates = new BitSet();
+        int endSlot = Math.min(maintenanceBySlot.length,
+                               TimeCodec.ceilSlot(endMinute));
+        for (int slot = TimeCodec.toSlot(startMinute); slot < endSlot; slot++) {
+            candidates.or(maintenanceBySlot[slot]);
+        }
+        // Slots only approximate windows that are not slot-aligned
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            if (!overlapsMaintenance(index, startMinute, endMinute)) {
+                candidates.clear(index);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Active rooms that hold at least {@code numberOfPeople}.
+     */
+    public BitSet capacityAtLeast(int numberOfPeople) {
+        BitSet result = new BitSet();
+        for (int band = firstBandAtLeast(numberOfPeople); band < bands.length; band++) {
+            result.or(bands[band]);
+        }
+        return result;
+    }
+
+    /**
+     * Active rooms that hold fewer than {@code numberOfPeople}.
+     */
+    public BitSet capacityBelow(int numberOfPeople) {
+        BitSet result = new BitSet();
+        for (int band = 0, end = firstBandAtLeast(numberOfPeople); band < end; band++) {
+            result.or(bands[band]);
+        }
+        return result;
+    }
+
+    /**
+     * The room in {@code candidates} with the smallest capacity of at least {@code numberOfPeople}, earliest in
+     * catalog order among equals, or {@code null}.
+     */
+    public ConferenceRoom smallest(BitSet candidates, int numberOfPeople) {
+        for (int band = firstBandAtLeast(numberOfPeople); band < bands.length; band++) {
+            if (bands[band].intersects(candidates)) {
+                BitSet inBand = (BitSet) bands[band].clone();
+                inBand.and(candidates);
+                return first(inBand);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The room in {@code candidates} that comes first in catalog order, or {@code null}.
+     */
+    public ConferenceRoom first(BitSet candidates) {
+        int first = Integer.MAX_VALUE;
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            if (index < positions.length && positions[index] >= 0) {
+                first = Math.min(first, positions[index]);
+            }
+        }
+        return first == Integer.MAX_VALUE ? null : rooms.get(first);
+    }
+
+    /**
+     * The active rooms in {@code candidates}, in catalog order.
+     */
+    public List<ConferenceRoom> toList(BitSet candidates) {
+        int[] selected = new int[candidates.cardinality()];
+        int count = 0;
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            if (index < positions.length && positions[index] >= 0) {
+                selected[count++] = positions[index];
+            }
+        }
+        Arrays.sort(selected, 0, count);
+        List<ConferenceRoom> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(rooms.get(selected[i]));
+        }
+        return result;
+    }
+
+    private boolean overlapsMaintenance(int index, int startMinute, int endMinute) {
+        int[] minutes = maintenanceMinutes[index];
+        if (minutes == null || positions[index] < 0) {
+            return false;
+        }
+        for (int w = 0; w < minutes.length; w += 2) {
+            if (TimeCodec.overlaps(startMinute, endMinute, minutes[w], minutes[w + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int firstBandAtLeast(int numberOfPeople) {
+        int band = Arrays.binarySearch(bandCapacities, numberOfPeople);
+        return band >= 0 ? band : -band - 1;
+    }
+}
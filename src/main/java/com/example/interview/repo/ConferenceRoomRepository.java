@@ -1,7 +1,13 @@
 package com.example.interview.repo;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import com.example.interview.config.ConferenceRoomConfig;
 import com.example.interview.model.ConferenceRoom;
@@ -12,35 +18,165 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+/**
+ * Holds the room catalog as an immutable snapshot that {@link #replaceAll} swaps in one step. A room keeps its index
+ * for the lifetime of the process, keyed by name, so stored bookings never need to be renumbered; rooms dropped from
+ * the catalog are retired rather than removed, so their remaining bookings still resolve.
+ */
 @Repository
 public class ConferenceRoomRepository {
 
-    private final List<ConferenceRoom> rooms;
+    private volatile Catalog catalog;
 
     @Autowired
     public ConferenceRoomRepository(ConferenceRoomConfig config) {
-        this.rooms = config.getRooms().stream()
-                .map(this::convertToConferenceRoom)
-                .collect(Collectors.toList());
+        this.catalog = Catalog.EMPTY.next(convert(config.getRooms()));
     }
 
     public List<ConferenceRoom> findAll() {
-        return rooms;
+        return catalog.active;
     }
 
     public Optional<ConferenceRoom> findByName(String name) {
-        return rooms.stream()
+        return catalog.active.stream()
                 .filter(room -> room.getName().equalsIgnoreCase(name))
                 .findFirst();
     }
 
-    private ConferenceRoom convertToConferenceRoom(ConferenceRoomConfig.ConferenceRoomProperties properties) {
+    /**
+     * Returns the stable index of the room, or -1 if it has never been part of the catalog.
+     */
+    public int indexOf(ConferenceRoom room) {
+        return indexOf(room.getName());
+    }
+
+    /**
+     * Returns the stable index of the room with the given name, or -1 if it has never been part of the catalog.
+     */
+    public int indexOf(String name) {
+        Integer index = catalog.indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public ConferenceRoom findByIndex(int index) {
+        return catalog.indexed.get(index);
+    }
+
+    /**
+     * Every room that has been part of the catalog, retired ones included, in index order.
+     */
+    public List<ConferenceRoom> findAllIndexed() {
+        return catalog.indexed;
+    }
+
+    /**
+     * Bitsets over the room indices of the current catalog.
+     */
+    public CatalogMasks masks() {
+        return catalog.masks;
+    }
+
+    /**
+     * Number of times the catalog has been replaced since startup.
+     */
+    public long version() {
+        return catalog.version;
+    }
+
+    public boolean isActive(ConferenceRoom room) {
+        Catalog current = catalog;
+        Integer index = current.indexes.get(room.getName());
+        return index != null && current.active.contains(current.indexed.get(index));
+    }
+
+    /**
+     * Atomically replaces the catalog with rooms built by {@link #convert}. Returns the previous active rooms.
+     */
+    public synchronized List<ConferenceRoom> replaceAll(List<ConferenceRoom> rooms) {
+        List<ConferenceRoom> previous = catalog.active;
+        catalog = catalog.next(rooms);
+        return previous;
+    }
+
+    /**
+     * Builds rooms from their configuration, rejecting duplicate names, non-positive capacities and empty maintenance
+     * windows with an {@link IllegalArgumentException}.
+     */
+    public static List<ConferenceRoom> convert(List<ConferenceRoomConfig.ConferenceRoomProperties> rooms) {
+        if (rooms == null) {
+            return List.of();
+        }
+        Set<String> names = new HashSet<>();
+        List<ConferenceRoom> converted = new ArrayList<>(rooms.size());
+        for (ConferenceRoomConfig.ConferenceRoomProperties properties : rooms) {
+            if (properties.getName() == null || properties.getName().isBlank()) {
+                throw new IllegalArgumentException("Every room needs a name.");
+            }
+            if (!names.add(properties.getName().toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Room '" + properties.getName() + "' is defined more than once.");
+            }
+            if (properties.getCapacity() <= 0) {
+                throw new IllegalArgumentException("Room '" + properties.getName() + "' needs a positive capacity.");
+            }
+            converted.add(convertToConferenceRoom(properties));
+        }
+        return converted;
+    }
+
+    private static ConferenceRoom convertToConferenceRoom(ConferenceRoomConfig.ConferenceRoomProperties properties) {
+        List<ConferenceRoomConfig.MaintenanceSchedule> schedule = properties.getMaintenanceSchedule() == null
+                ? List.of() : properties.getMaintenanceSchedule();
+        for (ConferenceRoomConfig.MaintenanceSchedule window : schedule) {
+            if (window.getStart() == null || window.getEnd() == null || !window.getStart().isBefore(window.getEnd())) {
+                throw new IllegalArgumentException("Room '" + properties.getName()
+                                                           + "' has a maintenance window that does not end after it starts.");
+            }
+        }
         return ConferenceRoom.builder()
                 .name(properties.getName())
                 .capacity(properties.getCapacity())
-                .maintenanceSchedule(properties.getMaintenanceSchedule().stream()
-                                             .map(schedule -> new LocalTime[] {schedule.getStart(), schedule.getEnd()})
+                .maintenanceSchedule(schedule.stream()
+                                             .map(window -> new LocalTime[] {window.getStart(), window.getEnd()})
                                              .collect(Collectors.toList()))
                 .build();
     }
+
+    private static final class Catalog {
+
+        static final Catalog EMPTY = new Catalog(List.of(), List.of(), Map.of(), -1);
+
+        final List<ConferenceRoom> active;
+        final List<ConferenceRoom> indexed;
+        final Map<String, Integer> indexes;
+        final long version;
+        final CatalogMasks masks;
+
+        private Catalog(List<ConferenceRoom> active, List<ConferenceRoom> indexed, Map<String, Integer> indexes,
+                        long version) {
+            this.active = active;
+            this.indexed = indexed;
+            this.indexes = indexes;
+            this.version = version;
+            int[] activeIndexes = new int[active.size()];
+            for (int position = 0; position < activeIndexes.length; position++) {
+                activeIndexes[position] = indexes.get(active.get(position).getName());
+            }
+            this.masks = new CatalogMasks(active, activeIndexes, indexed.size());
+        }
+
+        Catalog next(List<ConferenceRoom> rooms) {
+            List<ConferenceRoom> nextIndexed = new ArrayList<>(indexed);
+            Map<String, Integer> nextIndexes = new HashMap<>(indexes);
+            for (ConferenceRoom room : rooms) {
+                Integer index = nextIndexes.get(room.getName());
+                if (index == null) {
+                    nextIndexes.put(room.getName(), nextIndexed.size());
+                    nextIndexed.add(room);
+                } else {
+                    nextIndexed.set(index, room);
+                }
+            }
+            return new Catalog(List.copyOf(rooms), List.copyOf(nextIndexed), Map.copyOf(nextIndexes), version + 1);
+        }
+    }
 }
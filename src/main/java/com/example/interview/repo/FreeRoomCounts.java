@@ -0,0 +1,19 @@
+package com.example.interview.repo;
+
+import lombok.Value;
+
+/**
+ * Active rooms booked and free at consecutive slots, from {@link BookingRepository#freeRooms}. A room is free at a
+ * slot when it has no booking, no occurrence passed in as also booked and no maintenance there.
+ */
+@Value
+public class FreeRoomCounts {
+
+    int fromSlot;
+    // Distinct capacities of the active rooms, ascending
+    int[] capacities;
+    // booked[i]: active rooms with a booking at slot fromSlot + i
+    int[] booked;
+    // free[i][band]: free rooms at slot fromSlot + i with a capacity of at least capacities[band]
+    int[][] free;
+}
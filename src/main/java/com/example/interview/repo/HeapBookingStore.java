@@ -0,0 +1,147 @@
+package com.example.interview.repo;
+
+import java.util.Arrays;
+
+/**
+ * Keeps bookings as parallel primitive columns on the heap. Rows freed by deletions are recycled through a free list
+ * so the columns only grow with the peak number of live bookings.
+ */
+final class HeapBookingStore implements BookingStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] rooms = new int[INITIAL_CAPACITY];
+    private byte[] startSlots = new byte[INITIAL_CAPACITY];
+    private byte[] endSlots = new byte[INITIAL_CAPACITY];
+    private short[] people = new short[INITIAL_CAPACITY];
+
+    private int[] freeRows = new int[16];
+    private int freeCount;
+    private int highWaterMark;
+
+    private final LongIntMap rowsById = new LongIntMap(INITIAL_CAPACITY);
+    private long maxId;
+
+    @Override
+    public int put(long id, int room, int startSlot, int endSlot, int numberOfPeople) {
+        int row = rowsById.get(id);
+        if (row == NO_ROW) {
+            row = allocateRow();
+            rowsById.put(id, row);
+        }
+        ids[row] = id;
+        maxId = Math.max(maxId, id);
+        rooms[row] = room;
+        startSlots[row] = (byte) startSlot;
+        endSlots[row] = (byte) endSlot;
+        people[row] = (short) numberOfPeople;
+        return row;
+    }
+
+    @Override
+    public int rowOf(long id) {
+        return rowsById.get(id);
+    }
+
+    @Override
+    public boolean remove(long id) {
+        int row = rowsById.remove(id);
+        if (row == NO_ROW) {
+            return false;
+        }
+        ids[row] = 0L;
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount << 1);
+        }
+        freeRows[freeCount++] = row;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(ids, 0, highWaterMark, 0L);
+        rowsById.clear();
+        freeCount = 0;
+        highWaterMark = 0;
+        maxId = 0L;
+    }
+
+    @Override
+    public int size() {
+        return rowsById.size();
+    }
+
+    @Override
+    public int highWaterMark() {
+        return highWaterMark;
+    }
+
+    @Override
+    public boolean isLive(int row) {
+        return ids[row] != 0L;
+    }
+
+    @Override
+    public long id(int row) {
+        return ids[row];
+    }
+
+    @Override
+    public int room(int row) {
+        return rooms[row];
+    }
+
+    @Override
+    public int startSlot(int row) {
+        return startSlots[row];
+    }
+
+    @Override
+    public int endSlot(int row) {
+        return endSlots[row];
+    }
+
+    @Override
+    public int numberOfPeople(int row) {
+        return people[row];
+    }
+
+    @Override
+    public long maxId() {
+        return maxId;
+    }
+
+    @Override
+    public long maxAddressableId() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public long footprintBytes() {
+        long perRow = Long.BYTES + Integer.BYTES + Byte.BYTES + Byte.BYTES + Short.BYTES;
+        return perRow * ids.length + (long) freeRows.length * Integer.BYTES + rowsById.footprintBytes();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (highWaterMark == ids.length) {
+            grow(ids.length << 1);
+        }
+        return highWaterMark++;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        rooms = Arrays.copyOf(rooms, capacity);
+        startSlots = Arrays.copyOf(startSlots, capacity);
+        endSlots = Arrays.copyOf(endSlots, capacity);
+        people = Arrays.copyOf(people, capacity);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.interview.repo;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from positive {@code long} keys to {@code int} values, used to look up booking rows by id
+ * without boxing. Not thread-safe.
+ */
+final class LongIntMap {
+
+    static final int MISSING = -1;
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    LongIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    int get(long key) {
+        int index = indexOf(key);
+        return index < 0 ? MISSING : values[index];
+    }
+
+    void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key must not be " + EMPTY);
+        }
+        int index = probe(key);
+        if (keys[index] == EMPTY) {
+            keys[index] = key;
+            size++;
+        }
+        values[index] = value;
+        if (size * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+    }
+
+    int remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return MISSING;
+        }
+        int removed = values[index];
+        shiftBack(index);
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    long footprintBytes() {
+        return (long) keys.length * Long.BYTES + (long) values.length * Integer.BYTES;
+    }
+
+    private int indexOf(long key) {
+        int index = probe(key);
+        return keys[index] == key && key != EMPTY ? index : -1;
+    }
+
+    private int probe(long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    // Backward-shift deletion keeps probe sequences intact without tombstones.
+    private void shiftBack(int hole) {
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            long key = keys[index];
+            if (key == EMPTY) {
+                break;
+            }
+            int home = hash(key) & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = key;
+                values[hole] = values[index];
+                hole = index;
+            }
+        }
+        keys[hole] = EMPTY;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = probe(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
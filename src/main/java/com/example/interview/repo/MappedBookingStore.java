@@ -0,0 +1,316 @@
+package com.example.interview.repo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Stores fixed-size booking records in a memory-mapped file, addressed directly by booking id (row = id - 1), so the
+ * bookings themselves never live on the heap and survive a restart by re-mapping the file. The file is mapped in
+ * segments so it can grow past the 2 GB limit of a single mapping.
+ * <p>
+ * Records refer to rooms by their line in a sidecar room table ({@code <file>.rooms}, one room name per line, only ever
+ * appended to), not by catalog index, which depends on the order of the configured rooms. On open the table is mapped
+ * onto the current catalog by name; a live booking for a room the catalog no longer has fails the open.
+ *
+ * <pre>
+ * header (64 bytes): magic:int, version:int, recordSize:int, segmentRecords:int, highWaterMark:int
+ * record (16 bytes): flags:byte, startSlot:byte, endSlot:byte, unused:byte, roomKey:int, people:short, unused:6 bytes
+ * </pre>
+ */
+final class MappedBookingStore implements BookingStore {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 16;
+
+    private static final int MAGIC = 0x424B4731;
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int HEADER_HIGH_WATER_MARK = 16;
+
+    private static final int FLAGS = 0;
+    private static final int START_SLOT = 1;
+    private static final int END_SLOT = 2;
+    private static final int ROOM = 4;
+    private static final int PEOPLE = 8;
+
+    private static final byte LIVE = 1;
+
+    private final FileChannel channel;
+    private final int segmentRecords;
+    private final int maxRecords;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final Path roomTable;
+    private final IntFunction<String> roomName;
+    private final List<String> roomKeys = new ArrayList<>();
+    // Catalog index per room key, and room key per catalog index (-1 until the room is first stored)
+    private int[] roomsByKey = new int[0];
+    private int[] keysByRoom = new int[0];
+
+    private int highWaterMark;
+    private int size;
+
+    /**
+     * @param maxRecords largest booking id the file may address, which bounds its size to
+     *                   {@code maxRecords * RECORD_SIZE} bytes
+     * @param roomName   name of the room with the given catalog index
+     * @param roomIndex  catalog index of the room with the given name, or -1 if the catalog has no such room
+     */
+    MappedBookingStore(Path file, int segmentRecords, int maxRecords, IntFunction<String> roomName,
+                       ToIntFunction<String> roomIndex) {
+        this.segmentRecords = segmentRecords;
+        this.maxRecords = maxRecords;
+        this.roomTable = file.resolveSibling(file.getFileName() + ".rooms");
+        this.roomName = roomName;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            boolean exists = Files.exists(file) && Files.size(file) >= HEADER_SIZE;
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                       StandardOpenOption.WRITE);
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (exists) {
+                open(file, roomIndex);
+            } else {
+                header.putInt(0, MAGIC);
+                header.putInt(4, FORMAT_VERSION);
+                header.putInt(8, RECORD_SIZE);
+                header.putInt(12, segmentRecords);
+                header.putInt(HEADER_HIGH_WATER_MARK, 0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open booking file " + file, e);
+        }
+    }
+
+    @Override
+    public int put(long id, int room, int startSlot, int endSlot, int numberOfPeople) {
+        int row = toRow(id);
+        MappedByteBuffer segment = segmentFor(row, true);
+        int offset = offsetInSegment(row);
+        if (segment.get(offset + FLAGS) != LIVE) {
+            size++;
+        }
+        segment.put(offset + START_SLOT, (byte) startSlot);
+        segment.put(offset + END_SLOT, (byte) endSlot);
+        segment.putInt(offset + ROOM, roomKey(room));
+        segment.putShort(offset + PEOPLE, (short) numberOfPeople);
+        segment.put(offset + FLAGS, LIVE);
+        if (row >= highWaterMark) {
+            highWaterMark = row + 1;
+            header.putInt(HEADER_HIGH_WATER_MARK, highWaterMark);
+        }
+        return row;
+    }
+
+    @Override
+    public int rowOf(long id) {
+        if (id <= 0 || id > highWaterMark) {
+            return NO_ROW;
+        }
+        int row = (int) (id - 1);
+        return isLive(row) ? row : NO_ROW;
+    }
+
+    @Override
+    public boolean remove(long id) {
+        int row = rowOf(id);
+        if (row == NO_ROW) {
+            return false;
+        }
+        segmentFor(row, false).put(offsetInSegment(row) + FLAGS, (byte) 0);
+        size--;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (int row = 0; row < highWaterMark; row++) {
+            segmentFor(row, false).put(offsetInSegment(row) + FLAGS, (byte) 0);
+        }
+        highWaterMark = 0;
+        size = 0;
+        header.putInt(HEADER_HIGH_WATER_MARK, 0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int highWaterMark() {
+        return highWaterMark;
+    }
+
+    @Override
+    public boolean isLive(int row) {
+        return segmentFor(row, false).get(offsetInSegment(row) + FLAGS) == LIVE;
+    }
+
+    @Override
+    public long id(int row) {
+        return row + 1L;
+    }
+
+    @Override
+    public int room(int row) {
+        return roomsByKey[segmentFor(row, false).getInt(offsetInSegment(row) + ROOM)];
+    }
+
+    @Override
+    public int startSlot(int row) {
+        return segmentFor(row, false).get(offsetInSegment(row) + START_SLOT);
+    }
+
+    @Override
+    public int endSlot(int row) {
+        return segmentFor(row, false).get(offsetInSegment(row) + END_SLOT);
+    }
+
+    @Override
+    public int numberOfPeople(int row) {
+        return segmentFor(row, false).getShort(offsetInSegment(row) + PEOPLE);
+    }
+
+    @Override
+    public long maxId() {
+        return highWaterMark;
+    }
+
+    @Override
+    public long maxAddressableId() {
+        return maxRecords;
+    }
+
+    @Override
+    public long footprintBytes() {
+        return 0L;
+    }
+
+    @Override
+    public void close() {
+        try {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+            header.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close booking file", e);
+        }
+    }
+
+    private void open(Path file, ToIntFunction<String> roomIndex) throws IOException {
+        if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION || header.getInt(8) != RECORD_SIZE) {
+            throw new IllegalStateException("File " + file + " is not a booking file of version " + FORMAT_VERSION);
+        }
+        if (header.getInt(12) != segmentRecords) {
+            throw new IllegalStateException("File " + file + " was created with " + header.getInt(12)
+                                                    + " records per segment, but " + segmentRecords + " is configured");
+        }
+        highWaterMark = header.getInt(HEADER_HIGH_WATER_MARK);
+        if (highWaterMark > 0) {
+            segmentFor(highWaterMark - 1, true);
+        }
+        if (Files.exists(roomTable)) {
+            for (String name : Files.readAllLines(roomTable, StandardCharsets.UTF_8)) {
+                map(name, roomIndex.applyAsInt(name));
+            }
+        }
+        for (int row = 0; row < highWaterMark; row++) {
+            if (isLive(row)) {
+                int key = segmentFor(row, false).getInt(offsetInSegment(row) + ROOM);
+                if (key < 0 || key >= roomKeys.size()) {
+                    throw new IllegalStateException("Booking " + id(row) + " in " + file + " refers to room " + key
+                                                            + ", which is missing from " + roomTable);
+                }
+                if (roomsByKey[key] < 0) {
+                    throw new IllegalStateException("Booking " + id(row) + " in " + file + " is for room '"
+                                                            + roomKeys.get(key) + "', which is not in the catalog");
+                }
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Returns the room table key of the room with the given catalog index, appending the room to the table the first
+     * time it is stored. The table is written before any record refers to the new key.
+     */
+    private int roomKey(int room) {
+        if (room < keysByRoom.length && keysByRoom[room] >= 0) {
+            return keysByRoom[room];
+        }
+        String name = roomName.apply(room);
+        if (name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Room name '" + name + "' cannot be stored in the room table.");
+        }
+        try {
+            Files.writeString(roomTable, name + "\n", StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                              StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write room table " + roomTable, e);
+        }
+        return map(name, room);
+    }
+
+    private int map(String name, int room) {
+        int key = roomKeys.size();
+        roomKeys.add(name);
+        roomsByKey = Arrays.copyOf(roomsByKey, key + 1);
+        roomsByKey[key] = room;
+        if (room >= 0) {
+            if (room >= keysByRoom.length) {
+                int length = keysByRoom.length;
+                keysByRoom = Arrays.copyOf(keysByRoom, Math.max(room + 1, length * 2));
+                Arrays.fill(keysByRoom, length, keysByRoom.length, -1);
+            }
+            keysByRoom[room] = key;
+        }
+        return key;
+    }
+
+    private int toRow(long id) {
+        if (id <= 0 || id > maxRecords) {
+            throw new IllegalArgumentException("Booking id " + id + " cannot be addressed in the booking file.");
+        }
+        return (int) (id - 1);
+    }
+
+    private MappedByteBuffer segmentFor(int row, boolean create) {
+        int index = row / segmentRecords;
+        while (index >= segments.size()) {
+            if (!create) {
+                throw new IndexOutOfBoundsException("Row " + row + " is beyond the mapped booking file");
+            }
+            segments.add(map(segments.size()));
+        }
+        return segments.get(index);
+    }
+
+    private MappedByteBuffer map(int segment) {
+        long position = HEADER_SIZE + (long) segment * segmentRecords * RECORD_SIZE;
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, position, (long) segmentRecords * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map booking file segment " + segment, e);
+        }
+    }
+
+    private int offsetInSegment(int row) {
+        return (row % segmentRecords) * RECORD_SIZE;
+    }
+}
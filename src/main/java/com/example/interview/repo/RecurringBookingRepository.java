@@ -0,0 +1,325 @@
+package com.example.interview.repo;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.model.RecurringBooking;
+import com.example.interview.utils.TimeCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores recurring bookings as rules (one record per standing meeting, not per occurrence) grouped by room and
+ * ordered by start time. Occurrences are evaluated for a given date when they are queried.
+ */
+@Repository
+public class RecurringBookingRepository {
+
+    private static final Comparator<Rule> BY_START = Comparator.comparingInt((Rule rule) -> rule.startMinute)
+            .thenComparingLong(rule -> rule.id);
+
+    private final ConferenceRoomRepository conferenceRoomRepository;
+
+    private final Map<Long, Rule> rules = new HashMap<>();
+    private final List<List<Rule>> rulesByRoom = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long version;
+
+    @Autowired
+    public RecurringBookingRepository(ConferenceRoomRepository conferenceRoomRepository) {
+        this.conferenceRoomRepository = conferenceRoomRepository;
+    }
+
+    public void save(RecurringBooking booking) {
+        Rule rule = new Rule(booking.getId(), conferenceRoomRepository.indexOf(booking.getRoom()),
+                             TimeCodec.minuteOfDay(booking.getStartTime()), TimeCodec.minuteOfDay(booking.getEndTime()),
+                             booking.getNumberOfPeople(), dayMask(booking.getDaysOfWeek()));
+        if (booking.getCancelledDates() != null && !booking.getCancelledDates().isEmpty()) {
+            rule.cancelledDates = new TreeSet<>(booking.getCancelledDates());
+        }
+
+        lock.writeLock().lock();
+        try {
+            version++;
+            Rule previous = rules.put(rule.id, rule);
+            if (previous != null) {
+                rulesByRoom.get(previous.room).remove(previous);
+            }
+            while (rulesByRoom.size() <= rule.room) {
+                rulesByRoom.add(new ArrayList<>());
+            }
+            List<Rule> roomRules = rulesByRoom.get(rule.room);
+            int position = Collections.binarySearch(roomRules, rule, BY_START);
+            roomRules.add(-position - 1, rule);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<RecurringBooking> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            Rule rule = rules.get(id);
+            return rule == null ? Optional.empty() : Optional.of(toRecurringBooking(rule));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean deleteById(Long id) {
+        lock.writeLock().lock();
+        try {
+            Rule rule = rules.remove(id);
+            if (rule == null) {
+                return false;
+            }
+            rulesByRoom.get(rule.room).remove(rule);
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cancels the occurrence on {@code date}; returns false if there is no such recurring booking.
+     */
+    public boolean cancelOccurrence(Long id, LocalDate date) {
+        lock.writeLock().lock();
+        try {
+            Rule rule = rules.get(id);
+            if (rule == null) {
+                return false;
+            }
+            if (rule.cancelledDates == null) {
+                rule.cancelledDates = new TreeSet<>();
+            }
+            rule.cancelledDates.add(date);
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether an occurrence on {@code date} overlaps {@code [startMinute, endMinute)} in the room.
+     */
+    public boolean existsOverlapping(ConferenceRoom room, LocalDate date, int startMinute, int endMinute) {
+        lock.readLock().lock();
+        try {
+            for (Rule rule : roomRules(room)) {
+                if (rule.startMinute >= endMinute) {
+                    break;
+                }
+                if (rule.endMinute > startMinute && rule.occursOn(date)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indices of the rooms with an occurrence on {@code date} overlapping {@code [startMinute, endMinute)}.
+     */
+    public BitSet occupiedRooms(LocalDate date, int startMinute, int endMinute) {
+        BitSet rooms = new BitSet();
+        lock.readLock().lock();
+        try {
+            for (int room = 0; room < rulesByRoom.size(); room++) {
+                for (Rule rule : rulesByRoom.get(room)) {
+                    if (rule.startMinute >= endMinute) {
+                        break;
+                    }
+                    if (rule.endMinute > startMinute && rule.occursOn(date)) {
+                        rooms.set(room);
+                        break;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rooms;
+    }
+
+    /**
+     * For each slot of {@code [startMinute, endMinute)}, indexed by slot of day, the rooms with an occurrence on
+     * {@code date} covering it; slots outside the interval or without occurrences are {@code null}. One pass over the
+     * rules.
+     */
+    public BitSet[] occupiedRoomsBySlot(LocalDate date, int startMinute, int endMinute) {
+        BitSet[] slots = new BitSet[TimeCodec.SLOTS_PER_DAY];
+        int fromSlot = TimeCodec.toSlot(startMinute);
+        int toSlot = Math.min(slots.length, TimeCodec.ceilSlot(endMinute));
+        lock.readLock().lock();
+        try {
+            for (int room = 0; room < rulesByRoom.size(); room++) {
+                for (Rule rule : rulesByRoom.get(room)) {
+                    if (rule.startMinute >= endMinute) {
+                        break;
+                    }
+                    if (rule.endMinute <= startMinute || !rule.occursOn(date)) {
+                        continue;
+                    }
+                    int end = Math.min(toSlot, TimeCodec.ceilSlot(rule.endMinute));
+                    for (int slot = Math.max(fromSlot, TimeCodec.toSlot(rule.startMinute)); slot < end; slot++) {
+                        if (slots[slot] == null) {
+                            slots[slot] = new BitSet();
+                        }
+                        slots[slot].set(room);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return slots;
+    }
+
+    /**
+     * Whether a rule on any of the given days overlaps {@code [startMinute, endMinute)} in the room, regardless of
+     * cancelled occurrences.
+     */
+    public boolean existsConflicting(ConferenceRoom room, Set<DayOfWeek> daysOfWeek, int startMinute, int endMinute) {
+        int mask = dayMask(daysOfWeek);
+        lock.readLock().lock();
+        try {
+            for (Rule rule : roomRules(room)) {
+                if (rule.startMinute >= endMinute) {
+                    break;
+                }
+                if (rule.endMinute > startMinute && (rule.dayMask & mask) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recurring bookings of the room that occur on {@code date}, ordered by start time.
+     */
+    public List<RecurringBooking> findOccurrences(ConferenceRoom room, LocalDate date) {
+        List<RecurringBooking> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Rule rule : roomRules(room)) {
+                if (rule.occursOn(date)) {
+                    result.add(toRecurringBooking(rule));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Incremented by every change to the stored rules.
+     */
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return rules.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            rules.clear();
+            rulesByRoom.clear();
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Rule> roomRules(ConferenceRoom room) {
+        int index = conferenceRoomRepository.indexOf(room);
+        return index >= 0 && index < rulesByRoom.size() ? rulesByRoom.get(index) : List.of();
+    }
+
+    private static int dayMask(Set<DayOfWeek> daysOfWeek) {
+        if (daysOfWeek == null || daysOfWeek.isEmpty()) {
+            return (1 << 7) - 1;
+        }
+        int mask = 0;
+        for (DayOfWeek day : daysOfWeek) {
+            mask |= 1 << day.ordinal();
+        }
+        return mask;
+    }
+
+    private RecurringBooking toRecurringBooking(Rule rule) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((rule.dayMask & 1 << day.ordinal()) != 0) {
+                days.add(day);
+            }
+        }
+        return RecurringBooking.builder()
+                .id(rule.id)
+                .room(conferenceRoomRepository.findByIndex(rule.room))
+                .startTime(TimeCodec.toLocalTime(rule.startMinute))
+                .endTime(TimeCodec.toLocalTime(rule.endMinute))
+                .numberOfPeople(rule.numberOfPeople)
+                .daysOfWeek(days)
+                .cancelledDates(rule.cancelledDates == null ? new TreeSet<>() : new TreeSet<>(rule.cancelledDates))
+                .build();
+    }
+
+    private static final class Rule {
+        final long id;
+        final int room;
+        final int startMinute;
+        final int endMinute;
+        final int numberOfPeople;
+        final int dayMask;
+        TreeSet<LocalDate> cancelledDates;
+
+        Rule(long id, int room, int startMinute, int endMinute, int numberOfPeople, int dayMask) {
+            this.id = id;
+            this.room = room;
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+            this.numberOfPeople = numberOfPeople;
+            this.dayMask = dayMask;
+        }
+
+        boolean occursOn(LocalDate date) {
+            return (dayMask & 1 << date.getDayOfWeek().ordinal()) != 0
+                    && (cancelledDates == null || !cancelledDates.contains(date));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.interview.repo;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Per-room list of booking rows ordered by start slot, so overlap queries cost a binary search plus the matches
+ * instead of a scan over every booking. Entries are packed as {@code startSlot << 32 | row}. Not thread-safe.
+ */
+final class RoomTimeIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[][] keys = new long[0][];
+    private int[] sizes = new int[0];
+    // Longest booking per room bounds how far before the query start an overlapping booking can begin
+    private int[] maxLengths = new int[0];
+
+    void add(int room, int startSlot, int endSlot, int row) {
+        ensureRoom(room);
+        long key = key(startSlot, row);
+        long[] roomKeys = keys[room];
+        int size = sizes[room];
+        int position = -Arrays.binarySearch(roomKeys, 0, size, key) - 1;
+        if (position < 0) {
+            return;
+        }
+        if (size == roomKeys.length) {
+            roomKeys = keys[room] = Arrays.copyOf(roomKeys, Math.max(8, size << 1));
+        }
+        System.arraycopy(roomKeys, position, roomKeys, position + 1, size - position);
+        roomKeys[position] = key;
+        sizes[room] = size + 1;
+        maxLengths[room] = Math.max(maxLengths[room], endSlot - startSlot);
+    }
+
+    void remove(int room, int startSlot, int row) {
+        if (!hasRoom(room)) {
+            return;
+        }
+        long[] roomKeys = keys[room];
+        int size = sizes[room];
+        int position = Arrays.binarySearch(roomKeys, 0, size, key(startSlot, row));
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(roomKeys, position + 1, roomKeys, position, size - position - 1);
+        sizes[room] = size - 1;
+    }
+
+    /**
+     * Visits, in start order, the rows of the room whose start slot lies in {@code [fromSlot, toSlot)}, widened
+     * backwards by the longest booking so callers can check the end slot for overlap.
+     */
+    void forEachCandidate(int room, int fromSlot, int toSlot, IntConsumer rows) {
+        anyCandidate(room, fromSlot, toSlot, row -> {
+            rows.accept(row);
+            return false;
+        });
+    }
+
+    /**
+     * Like {@link #forEachCandidate} but stops at the first row accepted by {@code matches}.
+     */
+    boolean anyCandidate(int room, int fromSlot, int toSlot, IntPredicate matches) {
+        return seekCandidate(room, fromSlot, toSlot, -1, key -> matches.test(row(key))) >= 0;
+    }
+
+    /**
+     * Like {@link #anyCandidate} but resumes after the entry {@code afterKey} (-1 to start at the beginning) with a
+     * binary search, and passes packed entries to {@code matches}. Returns the entry it stopped at, or -1.
+     */
+    long seekCandidate(int room, int fromSlot, int toSlot, long afterKey, LongPredicate matches) {
+        if (!hasRoom(room)) {
+            return -1;
+        }
+        long[] roomKeys = keys[room];
+        int size = sizes[room];
+        int lowestStart = Math.max(0, fromSlot - maxLengths[room] + 1);
+        long fromKey = Math.max(key(lowestStart, 0), afterKey + 1);
+        for (int i = lowerBound(roomKeys, size, fromKey); i < size && startSlot(roomKeys[i]) < toSlot; i++) {
+            if (matches.test(roomKeys[i])) {
+                return roomKeys[i];
+            }
+        }
+        return -1;
+    }
+
+    void forEach(int room, IntConsumer rows) {
+        if (!hasRoom(room)) {
+            return;
+        }
+        long[] roomKeys = keys[room];
+        for (int i = 0, size = sizes[room]; i < size; i++) {
+            rows.accept(row(roomKeys[i]));
+        }
+    }
+
+    int size(int room) {
+        return hasRoom(room) ? sizes[room] : 0;
+    }
+
+    void clear() {
+        keys = new long[0][];
+        sizes = new int[0];
+        maxLengths = new int[0];
+    }
+
+    private void ensureRoom(int room) {
+        if (room < keys.length) {
+            return;
+        }
+        int rooms = room + 1;
+        int previous = keys.length;
+        keys = Arrays.copyOf(keys, rooms);
+        Arrays.fill(keys, previous, rooms, EMPTY);
+        sizes = Arrays.copyOf(sizes, rooms);
+        maxLengths = Arrays.copyOf(maxLengths, rooms);
+    }
+
+    private boolean hasRoom(int room) {
+        return room >= 0 && room < sizes.length;
+    }
+
+    private static int lowerBound(long[] roomKeys, int size, long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (roomKeys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long key(int startSlot, int row) {
+        return (long) startSlot << 32 | row;
+    }
+
+    private static int startSlot(long key) {
+        return (int) (key >>> 32);
+    }
+
+    static int row(long key) {
+        return (int) key;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.interview.repo;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.example.interview.utils.TimeCodec;
+
+/**
+ * Slot-major occupancy: for each 15-minute slot, a bitset over room indices with a booking covering that slot. A
+ * reference count per slot and room keeps the bit set until the last covering booking is removed.
+ * <p>
+ * Alongside the bits it counts, per slot, the active rooms that are booked and, by capacity band, those that are
+ * booked or under maintenance, so free rooms at a slot are known without looking at the rooms. The counts follow the
+ * catalog given to {@link #bind}. Not thread-safe.
+ */
+final class SlotOccupancy {
+
+    private final BitSet[] occupied = new BitSet[TimeCodec.SLOTS_PER_DAY];
+    private final short[][] counts = new short[TimeCodec.SLOTS_PER_DAY][];
+
+    private Bands bands = Bands.NONE;
+    private int[] bookedActive = new int[TimeCodec.SLOTS_PER_DAY];
+    // [band][slot]: active rooms of the band that are booked or under maintenance
+    private int[][] blocked = new int[0][];
+
+    SlotOccupancy() {
+        for (int slot = 0; slot < occupied.length; slot++) {
+            occupied[slot] = new BitSet();
+            counts[slot] = new short[0];
+        }
+    }
+
+    void add(int room, int startSlot, int endSlot) {
+        for (int slot = startSlot; slot < endSlot; slot++) {
+            if (room >= counts[slot].length) {
+                counts[slot] = Arrays.copyOf(counts[slot], Math.max(room + 1, counts[slot].length * 2));
+            }
+            if (counts[slot][room]++ == 0) {
+                occupied[slot].set(room);
+                count(room, slot, 1);
+            }
+        }
+    }
+
+    void remove(int room, int startSlot, int endSlot) {
+        for (int slot = startSlot; slot < endSlot; slot++) {
+            if (room < counts[slot].length && counts[slot][room] > 0 && --counts[slot][room] == 0) {
+                occupied[slot].clear(room);
+                count(room, slot, -1);
+            }
+        }
+    }
+
+    /**
+     * Rooms with a booking covering any slot in {@code [fromSlot, toSlot)}.
+     */
+    BitSet occupied(int fromSlot, int toSlot) {
+        BitSet rooms = new BitSet();
+        for (int slot = Math.max(0, fromSlot), end = Math.min(occupied.length, toSlot); slot < end; slot++) {
+            rooms.or(occupied[slot]);
+        }
+        return rooms;
+    }
+
+    void clear() {
+        for (int slot = 0; slot < occupied.length; slot++) {
+            occupied[slot].clear();
+            counts[slot] = new short[0];
+        }
+        recount();
+    }
+
+    /**
+     * Catalog version the counts follow.
+     */
+    long catalogVersion() {
+        return bands.catalogVersion;
+    }
+
+    /**
+     * Switches the counts to another catalog. {@code capacities} holds the capacity per room index, or 0 for a room
+     * that is not active, and {@code maintenance} the slots each room index is under maintenance. Costs a pass over
+     * the occupied bits of every slot.
+     */
+    void bind(long catalogVersion, int[] capacities, BitSet[] maintenance) {
+        bands = new Bands(catalogVersion, capacities, maintenance);
+        recount();
+    }
+
+    /**
+     * Whether some slot in {@code [fromSlot, toSlot)} has every active room booked.
+     */
+    boolean anyFullyBooked(int fromSlot, int toSlot) {
+        if (bands.active == 0) {
+            return false;
+        }
+        for (int slot = Math.max(0, fromSlot), end = Math.min(occupied.length, toSlot); slot < end; slot++) {
+            if (bookedActive[slot] == bands.active) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    FreeRoomCounts freeRooms(int fromSlot, int toSlot) {
+        return freeRooms(fromSlot, toSlot, new BitSet[occupied.length]);
+    }
+
+    /**
+     * Like {@link #freeRooms(int, int)}, also counting the rooms in {@code alsoBooked[slot]} (indexed by slot of day,
+     * {@code null} for none) as booked at that slot. Costs a pass over those rooms on top of the counters.
+     */
+    FreeRoomCounts freeRooms(int fromSlot, int toSlot, BitSet[] alsoBooked) {
+        int first = Math.max(0, fromSlot);
+        int slots = Math.max(0, Math.min(occupied.length, toSlot) - first);
+        int[] booked = Arrays.copyOfRange(bookedActive, first, first + slots);
+        int[][] free = new int[slots][bands.thresholds.length];
+        int[] alsoBlocked = new int[bands.thresholds.length];
+        for (int i = 0; i < slots; i++) {
+            int slot = first + i;
+            Arrays.fill(alsoBlocked, 0);
+            BitSet extra = alsoBooked[slot];
+            for (int room = extra == null ? -1 : extra.nextSetBit(0); room >= 0; room = extra.nextSetBit(room + 1)) {
+                int band = bands.bandOf(room);
+                if (band < 0 || occupied[slot].get(room)) {
+                    continue;
+                }
+                booked[i]++;
+                if (!bands.maintenance[room].get(slot)) {
+                    alsoBlocked[band]++;
+                }
+            }
+            int atLeast = 0;
+            for (int band = bands.thresholds.length - 1; band >= 0; band--) {
+                atLeast += bands.activeByBand[band] - blocked[band][slot] - alsoBlocked[band];
+                free[i][band] = atLeast;
+            }
+        }
+        return new FreeRoomCounts(first, bands.thresholds.clone(), booked, free);
+    }
+
+    private void count(int room, int slot, int delta) {
+        int band = bands.bandOf(room);
+        if (band < 0) {
+            return;
+        }
+        bookedActive[slot] += delta;
+        if (!bands.maintenance[room].get(slot)) {
+            blocked[band][slot] += delta;
+        }
+    }
+
+    private void recount() {
+        bookedActive = new int[TimeCodec.SLOTS_PER_DAY];
+        blocked = new int[bands.thresholds.length][TimeCodec.SLOTS_PER_DAY];
+        for (int room = 0; room < bands.bandOf.length; room++) {
+            int band = bands.bandOf[room];
+            if (band < 0) {
+                continue;
+            }
+            BitSet maintenance = bands.maintenance[room];
+            for (int slot = 0; slot < occupied.length; slot++) {
+                if (occupied[slot].get(room)) {
+                    bookedActive[slot]++;
+                    blocked[band][slot]++;
+                } else if (maintenance.get(slot)) {
+                    blocked[band][slot]++;
+                }
+            }
+        }
+    }
+
+    private static final class Bands {
+
+        static final Bands NONE = new Bands(-1, new int[0], new BitSet[0]);
+
+        final long catalogVersion;
+        // Distinct capacities of the active rooms, ascending; a room's band is the position of its capacity
+        final int[] thresholds;
+        final int[] bandOf;
+        final int[] activeByBand;
+        final BitSet[] maintenance;
+        final int active;
+
+        Bands(long catalogVersion, int[] capacities, BitSet[] maintenance) {
+            this.catalogVersion = catalogVersion;
+            this.thresholds = Arrays.stream(capacities).filter(capacity -> capacity > 0).distinct().sorted().toArray();
+            this.bandOf = new int[capacities.length];
+            this.activeByBand = new int[thresholds.length];
+            this.maintenance = maintenance;
+            int activeRooms = 0;
+            for (int room = 0; room < capacities.length; room++) {
+                bandOf[room] = capacities[room] > 0 ? Arrays.binarySearch(thresholds, capacities[room]) : -1;
+                if (bandOf[room] >= 0) {
+                    activeByBand[bandOf[room]]++;
+                    activeRooms++;
+                }
+            }
+            this.active = activeRooms;
+        }
+
+        int bandOf(int room) {
+            return room < bandOf.length ? bandOf[room] : -1;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.interview.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one availability computation. Queries coalesced onto a running computation share its
+ * event.
+ */
+@Name("com.example.interview.AvailabilityQuery")
+@Label("Availability Query")
+@Category({"Conference Rooms", "Availability"})
+@Description("Classification of rooms as free, booked or under maintenance for an interval")
+@StackTrace(false)
+class AvailabilityQueryEvent extends Event {
+
+    @Label("Start Time")
+    String startTime;
+
+    @Label("End Time")
+    String endTime;
+
+    @Label("Rooms Scanned")
+    int roomsScanned;
+
+    @Label("Rooms Booked")
+    int roomsBooked;
+
+    @Label("Rooms Under Maintenance")
+    int roomsUnderMaintenance;
+
+    @Label("Rooms Free")
+    int roomsFree;
+
+    @Label("Repository Size")
+    @Description("Bookings stored when the query ran")
+    int bookings;
+}
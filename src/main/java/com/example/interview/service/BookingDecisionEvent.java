@@ -0,0 +1,64 @@
+package com.example.interview.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one booking or move request, from validation to the decision.
+ */
+@Name("com.example.interview.BookingDecision")
+@Label("Booking Decision")
+@Category({"Conference Rooms", "Booking"})
+@Description("Room allocation for a booking request and its outcome")
+@StackTrace(false)
+class BookingDecisionEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Start Time")
+    String startTime;
+
+    @Label("End Time")
+    String endTime;
+
+    @Label("Number of People")
+    int numberOfPeople;
+
+    @Label("Rooms Scanned")
+    @Description("Active rooms classified on the last attempt; 0 when every room was already known to be booked")
+    int roomsScanned;
+
+    @Label("Rooms Booked")
+    @Description("Rooms with a booking or recurring occurrence overlapping the interval on the last attempt")
+    int roomsBooked;
+
+    @Label("Rooms Under Maintenance")
+    int roomsUnderMaintenance;
+
+    @Label("Conflicts")
+    @Description("Attempts lost to a concurrent booking of the chosen room")
+    int conflicts;
+
+    @Label("Outcome")
+    @Description("BOOKED, MOVED, WAITLISTED or the reason the request was rejected")
+    String outcome;
+
+    @Label("Room")
+    String room;
+
+    @Label("Repository Size")
+    @Description("Bookings stored once the decision was made")
+    int bookings;
+
+    void scanned(RoomClassifier.Occupancy occupancy) {
+        roomsScanned = occupancy.booked.cardinality() + occupancy.maintenance.cardinality()
+                + occupancy.free.cardinality();
+        roomsBooked = occupancy.booked.cardinality();
+        roomsUnderMaintenance = occupancy.maintenance.cardinality();
+    }
+}
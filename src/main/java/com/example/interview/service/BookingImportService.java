@@ -0,0 +1,231 @@
+package com.example.interview.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import com.example.interview.config.ImportConfig;
+import com.example.interview.dto.ImportResult;
+import com.example.interview.exception.InvalidNumberOfPeopleException;
+import com.example.interview.exception.RoomNotFoundException;
+import com.example.interview.model.Booking;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.utils.TimeCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads bookings with their original ids from a CSV or NDJSON file. Lines are parsed and validated against the
+ * booking rules in parallel; the valid ones are then applied in file order by a single
+ * {@link BookingRepository#insertAll} call, which rejects duplicate ids and overlaps.
+ */
+@Slf4j
+@Service
+public class BookingImportService {
+
+    static final String CSV_HEADER = "id,room,startTime,endTime,numberOfPeople";
+
+    @Autowired
+    private ImportConfig importConfig;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public ImportResult importBookings(String path, String format) throws IOException {
+        Path file = resolve(path);
+        boolean csv = isCsv(file, format);
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        log.info("Importing {} lines from {}", lines.size(), file);
+
+        ParsedLine[] parsed = IntStream.range(0, lines.size())
+                .parallel()
+                .mapToObj(i -> parseLine(i + 1, lines.get(i), csv))
+                .filter(Objects::nonNull)
+                .toArray(ParsedLine[]::new);
+
+        List<ImportResult.LineError> errors = new ArrayList<>();
+        List<Booking> bookings = new ArrayList<>(parsed.length);
+        List<Integer> bookingLines = new ArrayList<>(parsed.length);
+        int rejected = 0;
+        for (ParsedLine line : parsed) {
+            if (line.booking == null) {
+                rejected++;
+                errors.add(new ImportResult.LineError(line.number, line.error));
+            } else {
+                bookings.add(line.booking);
+                bookingLines.add(line.number);
+            }
+        }
+
+        BookingRepository.InsertOutcome[] outcomes =
+                bookingRepository.insertAll(bookings, bookingService::overlapsRecurring);
+        int imported = 0;
+        long maxId = 0;
+        for (int i = 0; i < outcomes.length; i++) {
+            if (outcomes[i] == BookingRepository.InsertOutcome.INSERTED) {
+                imported++;
+                maxId = Math.max(maxId, bookings.get(i).getId());
+                continue;
+            }
+            rejected++;
+            Booking booking = bookings.get(i);
+            String message = outcomes[i] == BookingRepository.InsertOutcome.DUPLICATE_ID
+                    ? "Booking with ID " + booking.getId() + " already exists."
+                    : "Room '" + booking.getRoom().getName() + "' is already booked during the requested time.";
+            errors.add(new ImportResult.LineError(bookingLines.get(i), message));
+        }
+
+        bookingService.advanceIdGenerator(maxId);
+        log.info("Imported {} bookings from {}, rejected {}", imported, file, rejected);
+        errors.sort(Comparator.comparingInt(ImportResult.LineError::getLine));
+        return ImportResult.builder()
+                .lines(parsed.length)
+                .imported(imported)
+                .rejected(rejected)
+                .errors(errors.subList(0, Math.min(errors.size(), importConfig.getMaxReportedErrors())))
+                .build();
+    }
+
+    private Path resolve(String path) {
+        Path directory = Path.of(importConfig.getDirectory()).toAbsolutePath().normalize();
+        Path file = directory.resolve(path).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("Import file must be inside the import directory.");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Import file '" + path + "' not found.");
+        }
+        return file;
+    }
+
+    private static boolean isCsv(Path file, String format) {
+        if (format != null) {
+            return format.equalsIgnoreCase("csv");
+        }
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return true;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown import format. Use a .csv or .ndjson file or set the format.");
+    }
+
+    private ParsedLine parseLine(int number, String line, boolean csv) {
+        if (line.isBlank() || (csv && number == 1 && line.strip().equalsIgnoreCase(CSV_HEADER))) {
+            return null;
+        }
+        try {
+            return new ParsedLine(number, csv ? parseCsv(line) : parseJson(line), null);
+        } catch (RuntimeException e) {
+            return new ParsedLine(number, null, e.getMessage());
+        } catch (IOException e) {
+            return new ParsedLine(number, null, "Malformed JSON.");
+        }
+    }
+
+    private Booking parseCsv(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 5) {
+            throw new IllegalArgumentException("Expected 5 columns: " + CSV_HEADER + ".");
+        }
+        return toBooking(columns[0].strip(), columns[1].strip(), columns[2].strip(), columns[3].strip(),
+                         columns[4].strip());
+    }
+
+    private Booking parseJson(String line) throws IOException {
+        JsonNode node = objectMapper.readTree(line);
+        return toBooking(field(node, "id"), field(node, "room"), field(node, "startTime"), field(node, "endTime"),
+                         field(node, "numberOfPeople"));
+    }
+
+    private static String field(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        if (value == null || !value.isValueNode() || value.isNull()) {
+            throw new IllegalArgumentException("Missing field '" + name + "'.");
+        }
+        return value.asText();
+    }
+
+    private Booking toBooking(String id, String roomName, String startTime, String endTime, String numberOfPeople) {
+        long bookingId = parseId(id);
+        if (bookingId > bookingRepository.maxAddressableId()) {
+            throw new IllegalArgumentException("Invalid ID. IDs above " + bookingRepository.maxAddressableId()
+                                                       + " cannot be stored.");
+        }
+        ConferenceRoom room = conferenceRoomRepository.findByName(roomName)
+                .orElseThrow(() -> new RoomNotFoundException("Room '" + roomName + "' not found."));
+        int start = bookingService.parseTime(startTime, "start");
+        int end = bookingService.parseTime(endTime, "end");
+        int people = parseNumberOfPeople(numberOfPeople);
+
+        bookingService.validateBookingRequest(start, end, people);
+        if (people > room.getCapacity()) {
+            throw new InvalidNumberOfPeopleException("Room '" + room.getName() + "' has a capacity of "
+                                                             + room.getCapacity() + " people.");
+        }
+        bookingService.checkMaintenance(room, start, end);
+
+        return Booking.builder()
+                .id(bookingId)
+                .room(room)
+                .startTime(TimeCodec.toLocalTime(start))
+                .endTime(TimeCodec.toLocalTime(end))
+                .numberOfPeople(people)
+                .build();
+    }
+
+    private static long parseId(String value) {
+        try {
+            long id = Long.parseLong(value);
+            if (id > 0) {
+                return id;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid ID. ID must be a positive integer.");
+    }
+
+    private static int parseNumberOfPeople(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidNumberOfPeopleException("Number of people must be an integer.");
+        }
+    }
+
+    private static final class ParsedLine {
+        final int number;
+        final Booking booking;
+        final String error;
+
+        ParsedLine(int number, Booking booking, String error) {
+            this.number = number;
+            this.booking = booking;
+            this.error = error;
+        }
+    }
+}
@@ -1,20 +1,44 @@
 package com.example.interview.service;
 
-import java.time.Duration;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeParseException;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import com.example.interview.audit.AuditEvent;
+import com.example.interview.audit.AuditEventType;
+import com.example.interview.audit.AuditTrail;
+import com.example.interview.config.BookingQueryConfig;
+import com.example.interview.config.WaitlistConfig;
+import com.example.interview.dto.BookingLookupResult;
+import com.example.interview.dto.BookingQueryResult;
 import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.BookingUpdateRequest;
+import com.example.interview.dto.CancellationResult;
 import com.example.interview.exception.*;
 import com.example.interview.model.Booking;
 import com.example.interview.model.ConferenceRoom;
+import com.example.interview.model.WaitlistEntry;
+import com.example.interview.repo.BookingPage;
 import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.BookingSnapshot;
+import com.example.interview.repo.CatalogMasks;
 import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.repo.RecurringBookingRepository;
+import com.example.interview.stats.UtilizationStats;
+import com.example.interview.timing.Phase;
+import com.example.interview.timing.RequestTiming;
+import com.example.interview.utils.ETags;
+import com.example.interview.utils.TimeCodec;
+import com.example.interview.waitlist.Waitlist;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -29,36 +53,327 @@ public class BookingService {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private RecurringBookingRepository recurringBookingRepository;
+
+    @Autowired
+    private AuditTrail auditTrail;
+
+    @Autowired
+    private Waitlist waitlist;
+
+    @Autowired
+    private WaitlistConfig waitlistConfig;
+
+    @Autowired
+    private BookingQueryConfig bookingQueryConfig;
+
+    @Autowired
+    private RoomClassifier roomClassifier;
+
+    @Autowired
+    private UtilizationStats utilizationStats;
+
+    @Autowired
+    private Clock clock;
+
     private final AtomicLong idGenerator = new AtomicLong();
 
+    @PostConstruct
+    void initIdGenerator() {
+        idGenerator.set(bookingRepository.maxId());
+    }
+
+    /**
+     * Moves the id generator past {@code id} so bookings created from now on never reuse an imported id.
+     */
+    void advanceIdGenerator(long id) {
+        idGenerator.accumulateAndGet(id, Math::max);
+    }
+
     public String bookRoom(BookingRequest request) {
-        log.info("bookRoom called with request: {}", request);
+        log.debug("bookRoom called with request: {}", request);
 
-        LocalTime startTime = parseTime(request.getStartTime(), "start");
-        LocalTime endTime = parseTime(request.getEndTime(), "end");
-        int numberOfPeople = request.getNumberOfPeople();
+        BookingDecisionEvent event = new BookingDecisionEvent();
+        event.begin();
+        try {
+            int startTime;
+            int endTime;
+            int numberOfPeople = request.getNumberOfPeople();
+            event.numberOfPeople = numberOfPeople;
+            try (RequestTiming.Span span = RequestTiming.span(Phase.VALIDATE)) {
+                startTime = parseTime(request.getStartTime(), "start");
+                endTime = parseTime(request.getEndTime(), "end");
+                validateBookingRequest(startTime, endTime, numberOfPeople);
+            }
+
+            long id = 0;
+            while (true) {
+                // Find a suitable room or throw the appropriate exception
+                ConferenceRoom room = findBestFit(startTime, endTime, numberOfPeople, event);
+
+                if (id == 0) {
+                    id = idGenerator.incrementAndGet();
+                }
+                Optional<String> booked = bookRoom(id, room, startTime, endTime, numberOfPeople);
+                if (booked.isPresent()) {
+                    event.outcome = "BOOKED";
+                    event.room = room.getName();
+                    return booked.get();
+                }
+                event.conflicts++;
+                // Another request took the room since the check; look again with its booking visible
+                log.debug("Room {} was taken concurrently, retrying", room.getName());
+            }
+        } catch (RuntimeException e) {
+            RuntimeException outcome = parkOnWaitlist(request, e);
+            if (outcome instanceof BookingWaitlistedException waitlisted) {
+                Optional<String> booked = allocateParked(waitlisted.getBookingId(), event);
+                if (booked.isPresent()) {
+                    event.outcome = "BOOKED";
+                    return booked.get();
+                }
+            }
+            if (outcome instanceof BookingWaitlistedException) {
+                utilizationStats.waitlisted();
+                event.outcome = "WAITLISTED";
+            } else {
+                utilizationStats.rejected(request.getStartTime(), request.getEndTime(), rejectionReason(e));
+                event.outcome = rejectionReason(e);
+            }
+            auditTrail.record(AuditEvent.builder()
+                                      .timestamp(System.currentTimeMillis())
+                                      .type(outcome instanceof BookingWaitlistedException
+                                                    ? AuditEventType.WAITLISTED : AuditEventType.REJECTED)
+                                      .bookingId(outcome instanceof BookingWaitlistedException waitlisted
+                                                         ? waitlisted.getBookingId() : null)
+                                      .startTime(request.getStartTime())
+                                      .endTime(request.getEndTime())
+                                      .numberOfPeople(request.getNumberOfPeople())
+                                      .reason(rejectionReason(e))
+                                      .build());
+            throw outcome;
+        } finally {
+            commit(event, "book", request.getStartTime(), request.getEndTime());
+        }
+    }
 
-        validateBookingRequest(startTime, endTime, numberOfPeople);
+    /**
+     * Moves or resizes a booking in one step. The booking stays in its room when that room can take the new time and
+     * group, and otherwise moves to the best-fitting free room under the same rules as a new booking. Its current time
+     * is released only once the new one is reserved.
+     */
+    public String moveBooking(Long bookingId, BookingUpdateRequest request) {
+        log.debug("moveBooking called for booking {} with request: {}", bookingId, request);
+        BookingDecisionEvent event = new BookingDecisionEvent();
+        event.begin();
+        try {
+            return moveBooking(bookingId, request, event);
+        } catch (RuntimeException e) {
+            event.outcome = rejectionReason(e);
+            throw e;
+        } finally {
+            commit(event, "move", request.getStartTime(), request.getEndTime());
+        }
+    }
 
-        // Find a suitable room or throw the appropriate exception
-        ConferenceRoom room = findAvailableRoom(startTime, endTime, numberOfPeople)
-                .orElseThrow(() -> findLowerCapacityRooms(startTime, endTime, numberOfPeople).isEmpty()
-                        ? new AllRoomsBookedException("All rooms are already booked during the requested time.")
-                        : handleNoRoomAvailable(startTime, endTime, numberOfPeople));
+    private String moveBooking(Long bookingId, BookingUpdateRequest request, BookingDecisionEvent event) {
+        Booking current = getBookingById(bookingId);
+
+        int startTime;
+        int endTime;
+        int numberOfPeople = request.getNumberOfPeople() == null
+                ? current.getNumberOfPeople() : request.getNumberOfPeople();
+        try (RequestTiming.Span span = RequestTiming.span(Phase.VALIDATE)) {
+            startTime = request.getStartTime() == null
+                    ? TimeCodec.minuteOfDay(current.getStartTime()) : parseTime(request.getStartTime(), "start");
+            endTime = request.getEndTime() == null
+                    ? TimeCodec.minuteOfDay(current.getEndTime()) : parseTime(request.getEndTime(), "end");
+            validateBookingRequest(startTime, endTime, numberOfPeople);
+        }
+        event.numberOfPeople = numberOfPeople;
+
+        while (true) {
+            BookingRepository.MoveOutcome outcome = BookingRepository.MoveOutcome.OVERLAP;
+            ConferenceRoom room = current.getRoom();
+            if (canStayInRoom(room, startTime, endTime, numberOfPeople)) {
+                outcome = move(booking(bookingId, room, startTime, endTime, numberOfPeople));
+            }
+            if (outcome == BookingRepository.MoveOutcome.OVERLAP) {
+                room = findBestFit(startTime, endTime, numberOfPeople, event);
+                outcome = move(booking(bookingId, room, startTime, endTime, numberOfPeople));
+            }
+            if (outcome == BookingRepository.MoveOutcome.NOT_FOUND) {
+                throw new BookingNotFoundException("Booking with ID " + bookingId + " not found.");
+            }
+            if (outcome == BookingRepository.MoveOutcome.MOVED) {
+                String start = TimeCodec.format(startTime);
+                String end = TimeCodec.format(endTime);
+                auditTrail.record(AuditEvent.builder()
+                                          .timestamp(System.currentTimeMillis())
+                                          .type(AuditEventType.MOVED)
+                                          .bookingId(bookingId)
+                                          .room(room.getName())
+                                          .startTime(start)
+                                          .endTime(end)
+                                          .numberOfPeople(numberOfPeople)
+                                          .build());
+                allocateWaitlisted(current);
+                event.outcome = "MOVED";
+                event.room = room.getName();
+                return String.format("Booking %d moved to room '%s' for %d people from %s to %s.",
+                                     bookingId, room.getName(), numberOfPeople, start, end);
+            }
+            event.conflicts++;
+            log.debug("Room {} was taken concurrently, retrying move of booking {}", room.getName(), bookingId);
+        }
+    }
 
-        return bookRoom(room, startTime, endTime, numberOfPeople);
+    /**
+     * Whether the room can take the booking apart from other one-off bookings, which {@link BookingRepository#move}
+     * checks atomically.
+     */
+    private boolean canStayInRoom(ConferenceRoom room, int startTime, int endTime, int numberOfPeople) {
+        return numberOfPeople <= room.getCapacity()
+                && conferenceRoomRepository.isActive(room)
+                && room.getMaintenanceSchedule().stream().noneMatch(
+                        slot -> TimeCodec.overlaps(startTime, endTime,
+                                                   TimeCodec.minuteOfDay(slot[0]), TimeCodec.minuteOfDay(slot[1])))
+                && !recurringBookingRepository.existsOverlapping(room, LocalDate.now(clock), startTime, endTime);
     }
 
-    private LocalTime parseTime(String time, String type) {
-        try {
-            return LocalTime.parse(time);
-        } catch (DateTimeParseException e) {
-            log.error("Invalid {} time format: {}", type, time, e);
+    /**
+     * Smallest free room for the group, or the exception a booking request gets when there is none.
+     */
+    private ConferenceRoom findBestFit(int startTime, int endTime, int numberOfPeople, BookingDecisionEvent event) {
+        RoomClassifier.Occupancy occupancy;
+        try (RequestTiming.Span span = RequestTiming.span(Phase.SCAN)) {
+            // A slot with every room booked settles the request before any per-room work
+            if (!conferenceRoomRepository.findAll().isEmpty() && bookingRepository.isFullyBooked(startTime, endTime)) {
+                log.error("All rooms are booked during the requested time");
+                throw new AllRoomsBookedException("All rooms are already booked during the requested time.");
+            }
+            occupancy = roomClassifier.classify(startTime, endTime);
+        }
+        if (event.isEnabled()) {
+            event.scanned(occupancy);
+        }
+        try (RequestTiming.Span span = RequestTiming.span(Phase.ALLOCATE)) {
+            return findAvailableRoom(occupancy, startTime, endTime, numberOfPeople)
+                    .orElseThrow(() -> {
+                        List<ConferenceRoom> lowerCapacityRooms = findLowerCapacityRooms(occupancy, startTime,
+                                                                                         endTime, numberOfPeople);
+                        return lowerCapacityRooms.isEmpty()
+                                ? new AllRoomsBookedException("All rooms are already booked during the requested time.")
+                                : handleNoRoomAvailable(lowerCapacityRooms, numberOfPeople);
+                    });
+        }
+    }
+
+    private void commit(BookingDecisionEvent event, String operation, String startTime, String endTime) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.startTime = startTime;
+            event.endTime = endTime;
+            event.bookings = bookingRepository.count();
+            event.commit();
+        }
+    }
+
+    private BookingRepository.MoveOutcome move(Booking booking) {
+        try (RequestTiming.Span span = RequestTiming.span(Phase.INSERT)) {
+            return bookingRepository.move(booking, this::overlapsRecurring);
+        }
+    }
+
+    private static Booking booking(long id, ConferenceRoom room, int startTime, int endTime, int numberOfPeople) {
+        return Booking.builder()
+                .id(id)
+                .room(room)
+                .startTime(TimeCodec.toLocalTime(startTime))
+                .endTime(TimeCodec.toLocalTime(endTime))
+                .numberOfPeople(numberOfPeople)
+                .build();
+    }
+
+    /**
+     * Parks a request that failed only because rooms are taken, if it opted in to the waitlist. Returns the exception
+     * to throw to the caller.
+     */
+    private RuntimeException parkOnWaitlist(BookingRequest request, RuntimeException rejection) {
+        if (!waitlistConfig.isEnabled() || !Boolean.TRUE.equals(request.getWaitlist())
+                || !(rejection instanceof AllRoomsBookedException || rejection instanceof NoRoomAvailableException)) {
+            return rejection;
+        }
+        WaitlistEntry entry = WaitlistEntry.builder()
+                .id(idGenerator.incrementAndGet())
+                .startTime(TimeCodec.toLocalTime(TimeCodec.parseMinuteOfDay(request.getStartTime())))
+                .endTime(TimeCodec.toLocalTime(TimeCodec.parseMinuteOfDay(request.getEndTime())))
+                .numberOfPeople(request.getNumberOfPeople())
+                .requestedAt(clock.instant())
+                .build();
+        if (!waitlist.add(entry)) {
+            log.warn("Waitlist is full, rejecting request: {}", request);
+            return rejection;
+        }
+        log.debug("Request parked on the waitlist as booking {}", entry.getId());
+        return new BookingWaitlistedException(rejection.getMessage() + " The request is on the waitlist as booking "
+                                                      + entry.getId() + ".", entry.getId());
+    }
+
+    /**
+     * Tries once to book a request that was just parked. A room freed between its rejection and parking was offered
+     * to a waitlist that did not contain it yet, so without this the request could wait on a free room.
+     */
+    private Optional<String> allocateParked(long bookingId, BookingDecisionEvent event) {
+        Optional<WaitlistEntry> parked = waitlist.find(bookingId);
+        if (parked.isEmpty()) {
+            // Already allocated by a cancellation
+            return Optional.empty();
+        }
+        WaitlistEntry entry = parked.get();
+        int startTime = TimeCodec.minuteOfDay(entry.getStartTime());
+        int endTime = TimeCodec.minuteOfDay(entry.getEndTime());
+        while (true) {
+            ConferenceRoom room;
+            try {
+                room = findBestFit(startTime, endTime, entry.getNumberOfPeople(), event);
+            } catch (RuntimeException e) {
+                return Optional.empty();
+            }
+            BookingRepository.InsertOutcome outcome = allocate(entry, room, startTime, endTime);
+            if (outcome == BookingRepository.InsertOutcome.INSERTED) {
+                log.debug("Waitlisted request {} booked right away in room {}", bookingId, room.getName());
+                event.room = room.getName();
+                return Optional.of(confirmation(room, entry.getNumberOfPeople(), startTime, endTime));
+            }
+            if (outcome == BookingRepository.InsertOutcome.DUPLICATE_ID) {
+                return Optional.empty();
+            }
+            event.conflicts++;
+        }
+    }
+
+    public Optional<WaitlistEntry> findWaitlisted(Long bookingId) {
+        return waitlist.find(bookingId);
+    }
+
+    private static String rejectionReason(RuntimeException e) {
+        String name = e.getClass().getSimpleName();
+        return name.endsWith("Exception") ? name.substring(0, name.length() - "Exception".length()) : name;
+    }
+
+    int parseTime(String time, String type) {
+        int minuteOfDay = TimeCodec.parseMinuteOfDay(time);
+        if (minuteOfDay == TimeCodec.INVALID) {
+            log.error("Invalid {} time format: {}", type, time);
             throw new IllegalArgumentException("Invalid " + type + " time format. Please use HH:mm format (e.g., 14:30).");
         }
+        return minuteOfDay;
     }
 
-    private void validateBookingRequest(LocalTime startTime, LocalTime endTime, int numberOfPeople) {
+    void validateBookingRequest(int startTime, int endTime, int numberOfPeople) {
         if (numberOfPeople <= 1) {
             log.error("Invalid number of people: {}", numberOfPeople);
             throw new InvalidNumberOfPeopleException("Number of people should be greater than 1.");
@@ -67,20 +382,19 @@ public class BookingService {
         validateBookingDuration(startTime, endTime);
     }
 
-    private void validateTimeInterval(LocalTime startTime, LocalTime endTime) {
-        if (startTime.equals(endTime) || startTime.isAfter(endTime)) {
-            log.error("Invalid time interval: startTime={} endTime={}", startTime, endTime);
+    private void validateTimeInterval(int startTime, int endTime) {
+        if (startTime >= endTime) {
+            log.error("Invalid time interval: startTime={} endTime={}", TimeCodec.format(startTime), TimeCodec.format(endTime));
             throw new InvalidTimeIntervalException("End time must be after start time.");
         }
-        if (startTime.getMinute() % 15 != 0 || endTime.getMinute() % 15 != 0) {
-            log.error("Time not in 15-minute intervals: startTime={} endTime={}", startTime, endTime);
+        if (!TimeCodec.isSlotAligned(startTime) || !TimeCodec.isSlotAligned(endTime)) {
+            log.error("Time not in 15-minute intervals: startTime={} endTime={}", TimeCodec.format(startTime), TimeCodec.format(endTime));
             throw new InvalidTimeIntervalException("Booking times must be in 15-minute intervals.");
         }
     }
 
-    private void validateBookingDuration(LocalTime startTime, LocalTime endTime) {
-        Duration duration = Duration.between(startTime, endTime);
-        long minutes = duration.toMinutes();
+    private void validateBookingDuration(int startTime, int endTime) {
+        int minutes = endTime - startTime;
 
         if (minutes < 30) {
             log.error("Invalid booking duration: {} minutes", minutes);
@@ -92,32 +406,34 @@ public class BookingService {
         }
     }
 
-    private Optional<ConferenceRoom> findAvailableRoom(LocalTime startTime, LocalTime endTime, int numberOfPeople) {
-        List<ConferenceRoom> rooms = conferenceRoomRepository.findAll();
-
-        if (rooms.isEmpty()) {
+    /**
+     * Applies the booking rules to the classified rooms as if they were checked one by one in catalog order: a room
+     * that is free of bookings but under maintenance fails the request when it is the first unbooked room, or when it
+     * is big enough for the group.
+     */
+    private Optional<ConferenceRoom> findAvailableRoom(RoomClassifier.Occupancy occupancy, int startTime, int endTime,
+                                                       int numberOfPeople) {
+        CatalogMasks catalog = occupancy.catalog;
+        if (catalog.rooms().isEmpty()) {
             log.error("No rooms available in the repository");
             throw new NoRoomAvailableException("No rooms available in the repository.");
         }
 
-        boolean allRoomsBooked = rooms.stream()
-                .noneMatch(room -> isRoomAvailable(room, startTime, endTime));
-
-        if (allRoomsBooked) {
+        ConferenceRoom firstUnbooked = catalog.first(occupancy.notBooked());
+        if (firstUnbooked == null) {
             log.error("All rooms are booked during the requested time");
             throw new AllRoomsBookedException("All rooms are already booked during the requested time.");
         }
+        requireNoMaintenance(occupancy, firstUnbooked, startTime, endTime);
 
-        return rooms.stream()
-                .filter(room -> room.getCapacity() >= numberOfPeople)
-                .filter(room -> isRoomAvailable(room, startTime, endTime))
-                .sorted(Comparator.comparingInt(ConferenceRoom::getCapacity))
-                .findFirst();
-    }
+        BitSet blocked = catalog.capacityAtLeast(numberOfPeople);
+        blocked.and(occupancy.maintenance);
+        requireNoMaintenance(occupancy, catalog.first(blocked), startTime, endTime);
 
-    private RuntimeException handleNoRoomAvailable(LocalTime startTime, LocalTime endTime, int numberOfPeople) {
-        List<ConferenceRoom> lowerCapacityRooms = findLowerCapacityRooms(startTime, endTime, numberOfPeople);
+        return Optional.ofNullable(catalog.smallest(occupancy.free, numberOfPeople));
+    }
 
+    private RuntimeException handleNoRoomAvailable(List<ConferenceRoom> lowerCapacityRooms, int numberOfPeople) {
         StringBuilder message = new StringBuilder("All rooms suitable for ")
                 .append(numberOfPeople)
                 .append(" people are booked, but the following rooms with lower capacity are available during the requested time:\n");
@@ -129,53 +445,307 @@ public class BookingService {
         return new NoRoomAvailableException(message.toString().trim());
     }
 
-    private String bookRoom(ConferenceRoom room, LocalTime startTime, LocalTime endTime, int numberOfPeople) {
-        log.info("Booking room: {} for {} people from {} to {}", room.getName(), numberOfPeople, startTime, endTime);
+    /**
+     * Reserves the room and returns the confirmation, or empty if an overlapping booking was stored first.
+     */
+    private Optional<String> bookRoom(long id, ConferenceRoom room, int startTime, int endTime, int numberOfPeople) {
+        String start = TimeCodec.format(startTime);
+        String end = TimeCodec.format(endTime);
+        log.debug("Booking room: {} for {} people from {} to {}", room.getName(), numberOfPeople, start, end);
+
+        BookingRepository.InsertOutcome outcome = reserve(booking(id, room, startTime, endTime, numberOfPeople));
+        if (outcome == BookingRepository.InsertOutcome.OVERLAP) {
+            return Optional.empty();
+        }
+        if (outcome == BookingRepository.InsertOutcome.DUPLICATE_ID) {
+            throw new IllegalStateException("Booking ID " + id + " is already in use.");
+        }
+        return Optional.of(confirmation(room, numberOfPeople, startTime, endTime));
+    }
 
-        Booking booking = Booking.builder()
-                .id(idGenerator.incrementAndGet())
-                .room(room)
-                .startTime(startTime)
-                .endTime(endTime)
-                .numberOfPeople(numberOfPeople)
-                .build();
+    /**
+     * Inserts the booking and audits it if it was stored.
+     */
+    private BookingRepository.InsertOutcome reserve(Booking booking) {
+        BookingRepository.InsertOutcome outcome;
+        try (RequestTiming.Span span = RequestTiming.span(Phase.INSERT)) {
+            outcome = bookingRepository.insert(booking, this::overlapsRecurring);
+        }
+        if (outcome == BookingRepository.InsertOutcome.INSERTED) {
+            auditTrail.record(AuditEvent.builder()
+                                      .timestamp(System.currentTimeMillis())
+                                      .type(AuditEventType.BOOKED)
+                                      .bookingId(booking.getId())
+                                      .room(booking.getRoom().getName())
+                                      .startTime(TimeCodec.format(TimeCodec.minuteOfDay(booking.getStartTime())))
+                                      .endTime(TimeCodec.format(TimeCodec.minuteOfDay(booking.getEndTime())))
+                                      .numberOfPeople(booking.getNumberOfPeople())
+                                      .build());
+        }
+        return outcome;
+    }
 
-        bookingRepository.save(booking);
-        log.info("Room '{}' booked successfully", room.getName());
+    private static String confirmation(ConferenceRoom room, int numberOfPeople, int startTime, int endTime) {
+        return String.format("Room '%s' booked successfully for %d people from %s to %s.", room.getName(),
+                             numberOfPeople, TimeCodec.format(startTime), TimeCodec.format(endTime));
+    }
 
-        return String.format("Room '%s' booked successfully for %d people from %s to %s.",
-                             room.getName(), numberOfPeople, startTime, endTime);
+    private List<ConferenceRoom> findLowerCapacityRooms(RoomClassifier.Occupancy occupancy, int startTime, int endTime,
+                                                        int numberOfPeople) {
+        CatalogMasks catalog = occupancy.catalog;
+        BitSet lowerCapacity = catalog.capacityBelow(numberOfPeople);
+        BitSet blocked = (BitSet) lowerCapacity.clone();
+        blocked.and(occupancy.maintenance);
+        requireNoMaintenance(occupancy, catalog.first(blocked), startTime, endTime);
+
+        lowerCapacity.and(occupancy.free);
+        List<ConferenceRoom> lowerCapacityRooms = catalog.toList(lowerCapacity);
+        lowerCapacityRooms.sort(Comparator.comparingInt(ConferenceRoom::getCapacity).reversed());
+        return lowerCapacityRooms;
     }
 
-    private List<ConferenceRoom> findLowerCapacityRooms(LocalTime startTime, LocalTime endTime, int numberOfPeople) {
-        return conferenceRoomRepository.findAll().stream()
-                .filter(room -> room.getCapacity() < numberOfPeople)
-                .filter(room -> isRoomAvailable(room, startTime, endTime))
-                .sorted(Comparator.comparingInt(ConferenceRoom::getCapacity).reversed())
-                .collect(Collectors.toList());
+    private void requireNoMaintenance(RoomClassifier.Occupancy occupancy, ConferenceRoom room, int startTime,
+                                      int endTime) {
+        if (room != null && occupancy.maintenance.get(conferenceRoomRepository.indexOf(room))) {
+            checkMaintenance(room, startTime, endTime);
+        }
     }
 
     public void deleteBooking(Long bookingId) {
-        log.info("Attempting to delete booking with id: {}", bookingId);
-        if (bookingRepository.findById(bookingId).isEmpty()) {
+        log.debug("Attempting to delete booking with id: {}", bookingId);
+        // Removed and read under one lock, so a concurrent delete or move of the same booking cannot be reported twice
+        Optional<Booking> removed = bookingRepository.deleteById(bookingId);
+        if (removed.isEmpty()) {
+            if (bookingId != null && waitlist.remove(bookingId)) {
+                log.debug("Removed booking {} from the waitlist", bookingId);
+                return;
+            }
             throw new BookingNotFoundException("Booking with ID " + bookingId + " not found.");
         }
 
-        bookingRepository.deleteById(bookingId);
-        log.info("Booking with id {} deleted successfully", bookingId);
+        Booking booking = removed.get();
+        auditDeleted(booking);
+        allocateWaitlisted(booking);
+    }
+
+    public CancellationResult cancelBookings(List<Long> bookingIds) {
+        log.debug("Cancelling {} bookings by id", bookingIds.size());
+        List<Booking> cancelled = bookingRepository.deleteAllById(new LinkedHashSet<>(bookingIds));
+        cancelled.forEach(this::auditDeleted);
+        cancelled.forEach(this::allocateWaitlisted);
+
+        Set<Long> cancelledIds = cancelled.stream().map(Booking::getId).collect(Collectors.toSet());
+        List<Long> notFound = bookingIds.stream()
+                .filter(id -> !cancelledIds.contains(id))
+                .distinct()
+                .collect(Collectors.toList());
+        return CancellationResult.builder()
+                .cancelled(cancelled)
+                .notFound(notFound)
+                .build();
+    }
+
+    /**
+     * Cancels all bookings of a room, or only those overlapping the given interval when both times are present.
+     */
+    public CancellationResult cancelRoomBookings(String roomName, String startTime, String endTime) {
+        ConferenceRoom room = conferenceRoomRepository.findByName(roomName)
+                .orElseThrow(() -> new RoomNotFoundException("Room '" + roomName + "' not found."));
+
+        List<Booking> cancelled;
+        if (startTime == null && endTime == null) {
+            cancelled = bookingRepository.deleteByRoom(room);
+        } else if (startTime == null || endTime == null) {
+            throw new InvalidTimeIntervalException("Both start time and end time are required to cancel a time range.");
+        } else {
+            int start = parseTime(startTime, "start");
+            int end = parseTime(endTime, "end");
+            if (start >= end) {
+                throw new InvalidTimeIntervalException("End time must be after start time.");
+            }
+            cancelled = bookingRepository.deleteByRoomAndTime(room, start, end);
+        }
+        cancelled.forEach(this::auditDeleted);
+        cancelled.forEach(this::allocateWaitlisted);
+
+        return CancellationResult.builder()
+                .cancelled(cancelled)
+                .notFound(List.of())
+                .build();
+    }
+
+    /**
+     * Snapshot of the bookings to export, optionally limited to one room and to bookings overlapping the given times;
+     * an omitted start or end time defaults to the start or end of the day.
+     */
+    public BookingSnapshot exportBookings(String roomName, String startTime, String endTime) {
+        ConferenceRoom room = null;
+        if (roomName != null) {
+            room = conferenceRoomRepository.findByName(roomName)
+                    .orElseThrow(() -> new RoomNotFoundException("Room '" + roomName + "' not found."));
+        }
+        int start = startTime == null ? 0 : parseTime(startTime, "start");
+        int end = endTime == null ? TimeCodec.MINUTES_PER_DAY : parseTime(endTime, "end");
+        if (start >= end) {
+            throw new InvalidTimeIntervalException("End time must be after start time.");
+        }
+
+        return bookingRepository.snapshot(room, start, end);
+    }
+
+    /**
+     * One page of bookings, ordered by room and start time, optionally limited to one room, to bookings overlapping
+     * the given times and to groups of at least {@code minPeople}. Pass the returned cursor to get the next page.
+     */
+    public BookingQueryResult findBookings(String roomName, String startTime, String endTime, Integer minPeople,
+                                           String cursor, Integer limit) {
+        ConferenceRoom room = null;
+        if (roomName != null) {
+            room = conferenceRoomRepository.findByName(roomName)
+                    .orElseThrow(() -> new RoomNotFoundException("Room '" + roomName + "' not found."));
+        }
+        int start = startTime == null ? 0 : parseTime(startTime, "start");
+        int end = endTime == null ? TimeCodec.MINUTES_PER_DAY : parseTime(endTime, "end");
+        if (start >= end) {
+            throw new InvalidTimeIntervalException("End time must be after start time.");
+        }
+        int pageSize = limit == null ? bookingQueryConfig.getDefaultLimit() : limit;
+        if (pageSize < 1 || pageSize > bookingQueryConfig.getMaxLimit()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + bookingQueryConfig.getMaxLimit() + ".");
+        }
+
+        BookingPage page = bookingRepository.page(room, start, end, minPeople == null ? 0 : minPeople,
+                                                  parseCursor(cursor), pageSize);
+        return BookingQueryResult.builder()
+                .bookings(page.getBookings())
+                .nextCursor(page.getNext() < 0 ? null : Long.toString(page.getNext(), Character.MAX_RADIX))
+                .build();
     }
 
-    private boolean isRoomAvailable(ConferenceRoom room, LocalTime startTime, LocalTime endTime) {
-        boolean isAvailable = bookingRepository.findByRoom(room).stream()
-                .noneMatch(booking -> timeOverlaps(startTime, endTime, booking.getStartTime(), booking.getEndTime()));
+    private static long parseCursor(String cursor) {
+        if (cursor == null) {
+            return -1;
+        }
+        try {
+            long position = Long.parseLong(cursor, Character.MAX_RADIX);
+            if (position >= 0) {
+                return position;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor.");
+    }
 
-        if (!isAvailable) {
+    /**
+     * Looks up many bookings in one call; ids that are not booked are reported as not found.
+     */
+    public BookingLookupResult findBookingsById(List<Long> bookingIds) {
+        if (bookingIds.size() > bookingQueryConfig.getMaxIds()) {
+            throw new IllegalArgumentException("At most " + bookingQueryConfig.getMaxIds()
+                                                       + " bookings can be looked up at once.");
+        }
+        List<Booking> found = bookingRepository.findAllById(new LinkedHashSet<>(bookingIds));
+        Set<Long> foundIds = found.stream().map(Booking::getId).collect(Collectors.toSet());
+        List<Long> notFound = bookingIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .distinct()
+                .collect(Collectors.toList());
+        return BookingLookupResult.builder()
+                .bookings(found)
+                .notFound(notFound)
+                .build();
+    }
+
+    /**
+     * Books waitlisted requests, first come first served, into the room and interval freed by {@code freed}.
+     */
+    private void allocateWaitlisted(Booking freed) {
+        if (waitlist.size() == 0) {
+            return;
+        }
+        ConferenceRoom room = freed.getRoom();
+        if (!conferenceRoomRepository.isActive(room)) {
+            return;
+        }
+        // Booked outside the waitlist lock, which must not cover the repository lock, listeners or the audit trail
+        int allocated = 0;
+        for (WaitlistEntry entry : waitlist.candidates(TimeCodec.minuteOfDay(freed.getStartTime()),
+                                                       TimeCodec.minuteOfDay(freed.getEndTime()))) {
+            int startTime = TimeCodec.minuteOfDay(entry.getStartTime());
+            int endTime = TimeCodec.minuteOfDay(entry.getEndTime());
+            if (entry.getNumberOfPeople() <= room.getCapacity() && isRoomFree(room, startTime, endTime)
+                    && allocate(entry, room, startTime, endTime) == BookingRepository.InsertOutcome.INSERTED) {
+                allocated++;
+            }
+        }
+        if (allocated > 0) {
+            log.debug("Allocated {} waitlisted requests to room {}", allocated, room.getName());
+        }
+    }
+
+    /**
+     * Books the waitlisted entry into the room under its own id and takes it off the waitlist. The id makes a second
+     * allocation of the same entry fail with {@code DUPLICATE_ID}; an entry cancelled while it was being booked has
+     * its booking removed again.
+     */
+    private BookingRepository.InsertOutcome allocate(WaitlistEntry entry, ConferenceRoom room, int startTime,
+                                                     int endTime) {
+        Booking booking = booking(entry.getId(), room, startTime, endTime, entry.getNumberOfPeople());
+        BookingRepository.InsertOutcome outcome = reserve(booking);
+        if (outcome == BookingRepository.InsertOutcome.INSERTED && !waitlist.remove(entry.getId())) {
+            log.debug("Waitlisted request {} was cancelled while it was being booked", entry.getId());
+            bookingRepository.deleteById(entry.getId()).ifPresent(this::auditDeleted);
+            return BookingRepository.InsertOutcome.DUPLICATE_ID;
+        }
+        return outcome;
+    }
+
+    private boolean isRoomFree(ConferenceRoom room, int startTime, int endTime) {
+        try {
+            return isRoomAvailable(room, startTime, endTime);
+        } catch (MaintenanceTimeException e) {
+            return false;
+        }
+    }
+
+    private void auditDeleted(Booking booking) {
+        auditTrail.record(AuditEvent.builder()
+                                  .timestamp(System.currentTimeMillis())
+                                  .type(AuditEventType.DELETED)
+                                  .bookingId(booking.getId())
+                                  .room(booking.getRoom().getName())
+                                  .startTime(booking.getStartTime().toString())
+                                  .endTime(booking.getEndTime().toString())
+                                  .numberOfPeople(booking.getNumberOfPeople())
+                                  .build());
+    }
+
+    /**
+     * Whether the booking overlaps one of today's recurring occurrences in its room. Passed to the repository so the
+     * check runs under its write lock, which recurring bookings are also created under.
+     */
+    boolean overlapsRecurring(Booking booking) {
+        return recurringBookingRepository.existsOverlapping(booking.getRoom(), LocalDate.now(clock),
+                                                            TimeCodec.minuteOfDay(booking.getStartTime()),
+                                                            TimeCodec.minuteOfDay(booking.getEndTime()));
+    }
+
+    private boolean isRoomAvailable(ConferenceRoom room, int startTime, int endTime) {
+        if (bookingRepository.existsOverlapping(room, startTime, endTime)
+                || recurringBookingRepository.existsOverlapping(room, LocalDate.now(clock), startTime, endTime)) {
             return false;
         }
 
+        checkMaintenance(room, startTime, endTime);
+        return true;
+    }
+
+    void checkMaintenance(ConferenceRoom room, int startTime, int endTime) {
         // Collect all overlapping maintenance windows
         List<LocalTime[]> overlappingMaintenance = room.getMaintenanceSchedule().stream()
-                .filter(slot -> timeOverlaps(startTime, endTime, slot[0], slot[1]))
+                .filter(slot -> TimeCodec.overlaps(startTime, endTime,
+                                                   TimeCodec.minuteOfDay(slot[0]), TimeCodec.minuteOfDay(slot[1])))
                 .collect(Collectors.toList());
 
         if (!overlappingMaintenance.isEmpty()) {
@@ -183,8 +753,6 @@ public class BookingService {
             log.warn(maintenanceMessage);
             throw new MaintenanceTimeException(maintenanceMessage);
         }
-
-        return true;
     }
 
     private String buildMaintenanceExceptionMessage(ConferenceRoom room, List<LocalTime[]> overlappingMaintenance) {
@@ -198,8 +766,14 @@ public class BookingService {
         return message.toString().trim();
     }
 
-    private boolean timeOverlaps(LocalTime start1, LocalTime end1, LocalTime start2, LocalTime end2) {
-        return start1.isBefore(end2) && end1.isAfter(start2);
+    /**
+     * Strong ETag for {@link #getBookingById}, or empty if there is no such booking. Covers the catalog version too,
+     * since the body embeds the booking's room as currently defined.
+     */
+    public Optional<String> getBookingETag(Long bookingId) {
+        long catalogVersion = conferenceRoomRepository.version();
+        long version = bookingRepository.bookingVersion(bookingId);
+        return version < 0 ? Optional.empty() : Optional.of(ETags.of("b", bookingId, catalogVersion, version));
     }
 
     public Booking getBookingById(final Long bookingId) {
@@ -0,0 +1,125 @@
+package com.example.interview.service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.interview.dto.RecurringBookingRequest;
+import com.example.interview.exception.BookingNotFoundException;
+import com.example.interview.exception.NoRoomAvailableException;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.model.RecurringBooking;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.repo.RecurringBookingRepository;
+import com.example.interview.utils.TimeCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class RecurringBookingService {
+
+    @Autowired
+    private ConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RecurringBookingRepository recurringBookingRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private Clock clock;
+
+    private final AtomicLong idGenerator = new AtomicLong();
+
+    /**
+     * Books the smallest room that is free at the requested time on every requested day: no other recurring booking
+     * on those days and, if the rule occurs today, no booking today. The room is chosen and the rule saved under the
+     * booking repository's write lock, which one-off bookings check today's occurrences under as well.
+     */
+    public RecurringBooking createRecurringBooking(RecurringBookingRequest request) {
+        log.debug("createRecurringBooking called with request: {}", request);
+
+        int startTime = bookingService.parseTime(request.getStartTime(), "start");
+        int endTime = bookingService.parseTime(request.getEndTime(), "end");
+        int numberOfPeople = request.getNumberOfPeople();
+        bookingService.validateBookingRequest(startTime, endTime, numberOfPeople);
+
+        Set<DayOfWeek> daysOfWeek = request.getDaysOfWeek() == null || request.getDaysOfWeek().isEmpty()
+                ? EnumSet.allOf(DayOfWeek.class) : EnumSet.copyOf(request.getDaysOfWeek());
+        return bookingRepository.exclusively(() -> reserve(startTime, endTime, numberOfPeople, daysOfWeek));
+    }
+
+    private RecurringBooking reserve(int startTime, int endTime, int numberOfPeople, Set<DayOfWeek> daysOfWeek) {
+        boolean occursToday = daysOfWeek.contains(LocalDate.now(clock).getDayOfWeek());
+
+        ConferenceRoom room = conferenceRoomRepository.findAll().stream()
+                .filter(candidate -> candidate.getCapacity() >= numberOfPeople)
+                .filter(candidate -> !recurringBookingRepository.existsConflicting(candidate, daysOfWeek, startTime, endTime))
+                .filter(candidate -> !occursToday || !bookingRepository.existsOverlapping(candidate, startTime, endTime))
+                .min(Comparator.comparingInt(ConferenceRoom::getCapacity))
+                .orElseThrow(() -> new NoRoomAvailableException(
+                        "No room is free at the requested time on every requested day."));
+        bookingService.checkMaintenance(room, startTime, endTime);
+
+        RecurringBooking booking = RecurringBooking.builder()
+                .id(idGenerator.incrementAndGet())
+                .room(room)
+                .startTime(TimeCodec.toLocalTime(startTime))
+                .endTime(TimeCodec.toLocalTime(endTime))
+                .numberOfPeople(numberOfPeople)
+                .daysOfWeek(daysOfWeek)
+                .cancelledDates(new TreeSet<>())
+                .build();
+        recurringBookingRepository.save(booking);
+        log.debug("Recurring booking {} created in room {}", booking.getId(), room.getName());
+        return booking;
+    }
+
+    public RecurringBooking getRecurringBooking(Long id) {
+        return recurringBookingRepository.findById(id)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    public void deleteRecurringBooking(Long id) {
+        if (!recurringBookingRepository.deleteById(id)) {
+            throw notFound(id);
+        }
+    }
+
+    /**
+     * Cancels a single occurrence, leaving the rest of the series in place.
+     */
+    public RecurringBooking cancelOccurrence(Long id, String date) {
+        LocalDate occurrence;
+        try {
+            occurrence = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date format. Please use yyyy-MM-dd format (e.g., 2024-05-31).");
+        }
+        RecurringBooking booking = getRecurringBooking(id);
+        if (!booking.getDaysOfWeek().contains(occurrence.getDayOfWeek())) {
+            throw new IllegalArgumentException("Recurring booking " + id + " does not occur on " + occurrence + ".");
+        }
+        if (!recurringBookingRepository.cancelOccurrence(id, occurrence)) {
+            throw notFound(id);
+        }
+        return getRecurringBooking(id);
+    }
+
+    private static BookingNotFoundException notFound(Long id) {
+        return new BookingNotFoundException("Recurring booking with ID " + id + " not found.");
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.interview.service;
+
+import com.example.interview.dto.CatalogReloadResult;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published after a new room catalog has been swapped in, so components holding state derived from the rooms can
+ * rebuild it.
+ */
+public class RoomCatalogReloadedEvent extends ApplicationEvent {
+
+    private final CatalogReloadResult result;
+
+    public RoomCatalogReloadedEvent(Object source, CatalogReloadResult result) {
+        super(source);
+        this.result = result;
+    }
+
+    public CatalogReloadResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.interview.service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import com.example.interview.config.ConferenceRoomConfig;
+import com.example.interview.config.RoomCatalogConfig;
+import com.example.interview.dto.CatalogReloadResult;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.BookingSnapshot;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.utils.TimeCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reloads the room catalog from {@code room-catalog.file}, on request or when the file changes. The new catalog is
+ * parsed and validated before it is swapped in, and existing bookings that it no longer allows are reported rather
+ * than dropped.
+ */
+@Slf4j
+@Service
+public class RoomCatalogService {
+
+    @Autowired
+    private RoomCatalogConfig config;
+
+    @Autowired
+    private ConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private WatchService watchService;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (config.getFile() == null || config.getFile().isBlank()) {
+            return;
+        }
+        Path file = catalogFile();
+        if (Files.isRegularFile(file)) {
+            reload();
+        }
+        if (config.isWatch()) {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            Thread watcher = new Thread(() -> watchLoop(file.getFileName()), "room-catalog-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    public synchronized CatalogReloadResult reload() {
+        if (config.getFile() == null || config.getFile().isBlank()) {
+            throw new IllegalArgumentException("No room catalog file is configured.");
+        }
+        List<ConferenceRoom> rooms = ConferenceRoomRepository.convert(readCatalog(catalogFile()));
+        if (rooms.isEmpty()) {
+            throw new IllegalArgumentException("The room catalog must contain at least one room.");
+        }
+        List<ConferenceRoom> previous = conferenceRoomRepository.replaceAll(rooms);
+        CatalogReloadResult result = compare(previous, conferenceRoomRepository.findAll());
+        log.info("Room catalog reloaded: added={} removed={} changed={}",
+                 result.getAdded(), result.getRemoved(), result.getChanged());
+        if (!result.getConflicts().isEmpty()) {
+            log.warn("{} existing bookings conflict with the reloaded room catalog", result.getConflicts().size());
+        }
+        eventPublisher.publishEvent(new RoomCatalogReloadedEvent(this, result));
+        return result;
+    }
+
+    private Path catalogFile() {
+        return Path.of(config.getFile());
+    }
+
+    private static List<ConferenceRoomConfig.ConferenceRoomProperties> readCatalog(Path file) {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Room catalog file '" + file + "' not found.");
+        }
+        List<PropertySource<?>> sources;
+        try {
+            sources = new YamlPropertySourceLoader().load("room-catalog", new FileSystemResource(file));
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Room catalog file '" + file + "' could not be read: " + e.getMessage(), e);
+        }
+        try {
+            return new Binder(ConfigurationPropertySources.from(sources))
+                    .bind("conference-rooms.rooms", Bindable.listOf(ConferenceRoomConfig.ConferenceRoomProperties.class))
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Room catalog file '" + file + "' has no conference-rooms.rooms section."));
+        } catch (BindException e) {
+            throw new IllegalArgumentException("Room catalog file '" + file + "' is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    private CatalogReloadResult compare(List<ConferenceRoom> previous, List<ConferenceRoom> current) {
+        Map<String, ConferenceRoom> previousByName = byName(previous);
+        Map<String, ConferenceRoom> currentByName = byName(current);
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        List<CatalogReloadResult.Conflict> conflicts = new ArrayList<>();
+
+        for (ConferenceRoom room : previous) {
+            if (!currentByName.containsKey(room.getName())) {
+                removed.add(room.getName());
+                addConflicts(conflicts, bookingRepository.snapshot(room, 0, TimeCodec.MINUTES_PER_DAY),
+                             people -> "Room was removed from the catalog.");
+            }
+        }
+        for (ConferenceRoom room : current) {
+            ConferenceRoom old = previousByName.get(room.getName());
+            if (old == null) {
+                added.add(room.getName());
+                continue;
+            }
+            List<List<LocalTime>> oldWindows = windows(old);
+            if (old.getCapacity() == room.getCapacity() && oldWindows.equals(windows(room))) {
+                continue;
+            }
+            changed.add(room.getName());
+            if (room.getCapacity() < old.getCapacity()) {
+                addConflicts(conflicts, bookingRepository.snapshot(room, 0, TimeCodec.MINUTES_PER_DAY),
+                             people -> people > room.getCapacity()
+                                     ? "Booking for " + people + " people exceeds the new capacity of " + room.getCapacity() + "."
+                                     : null);
+            }
+            for (List<LocalTime> window : windows(room)) {
+                if (oldWindows.contains(window)) {
+                    continue;
+                }
+                String reason = "Booking overlaps the new maintenance window " + window.get(0) + " to " + window.get(1) + ".";
+                addConflicts(conflicts, bookingRepository.snapshot(room, TimeCodec.minuteOfDay(window.get(0)),
+                                                                   TimeCodec.minuteOfDay(window.get(1))),
+                             people -> reason);
+            }
+        }
+
+        return CatalogReloadResult.builder()
+                .added(added)
+                .removed(removed)
+                .changed(changed)
+                .conflicts(conflicts)
+                .build();
+    }
+
+    private static void addConflicts(List<CatalogReloadResult.Conflict> conflicts, BookingSnapshot bookings,
+                                     IntFunction<String> reasonForPeople) {
+        for (int i = 0; i < bookings.size(); i++) {
+            String reason = reasonForPeople.apply(bookings.numberOfPeople(i));
+            if (reason != null) {
+                conflicts.add(new CatalogReloadResult.Conflict(
+                        bookings.id(i), bookings.room(i).getName(),
+                        TimeCodec.format(TimeCodec.slotToMinute(bookings.startSlot(i))),
+                        TimeCodec.format(TimeCodec.slotToMinute(bookings.endSlot(i))), reason));
+            }
+        }
+    }
+
+    private static Map<String, ConferenceRoom> byName(List<ConferenceRoom> rooms) {
+        return rooms.stream().collect(Collectors.toMap(ConferenceRoom::getName, Function.identity()));
+    }
+
+    private static List<List<LocalTime>> windows(ConferenceRoom room) {
+        return room.getMaintenanceSchedule().stream().map(Arrays::asList).collect(Collectors.toList());
+    }
+
+    private void watchLoop(Path fileName) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean catalogChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    catalogChanged |= fileName.equals(event.context());
+                }
+                key.reset();
+                if (!catalogChanged) {
+                    continue;
+                }
+                Thread.sleep(config.getWatchDebounce().toMillis());
+                drain();
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    log.error("Room catalog reload failed, keeping the current catalog: {}", e.getMessage());
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Room catalog watcher stopped");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            key.pollEvents();
+            key.reset();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.interview.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.CatalogMasks;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.repo.RecurringBookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits the whole catalog into booked, maintenance and free rooms for an interval. Bookings and maintenance windows
+ * are kept as per-slot bitsets over room indices, so this is an OR over the interval's slots plus a few mask
+ * operations rather than a check per room.
+ */
+@Component
+class RoomClassifier {
+
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final BookingRepository bookingRepository;
+    private final RecurringBookingRepository recurringBookingRepository;
+    private final Clock clock;
+
+    @Autowired
+    RoomClassifier(ConferenceRoomRepository conferenceRoomRepository, BookingRepository bookingRepository,
+                   RecurringBookingRepository recurringBookingRepository, Clock clock) {
+        this.conferenceRoomRepository = conferenceRoomRepository;
+        this.bookingRepository = bookingRepository;
+        this.recurringBookingRepository = recurringBookingRepository;
+        this.clock = clock;
+    }
+
+    Occupancy classify(int startTime, int endTime) {
+        CatalogMasks catalog = conferenceRoomRepository.masks();
+        BitSet booked = bookingRepository.occupiedRooms(startTime, endTime);
+        booked.or(recurringBookingRepository.occupiedRooms(LocalDate.now(clock), startTime, endTime));
+        booked.and(catalog.active());
+
+        BitSet maintenance = catalog.maintenance(startTime, endTime);
+        maintenance.andNot(booked);
+
+        BitSet free = catalog.active();
+        free.andNot(booked);
+        free.andNot(maintenance);
+        return new Occupancy(catalog, booked, maintenance, free);
+    }
+
+    static final class Occupancy {
+
+        final CatalogMasks catalog;
+        /**
+         * Rooms with a booking or one of today's recurring occurrences in the interval.
+         */
+        final BitSet booked;
+        /**
+         * Rooms that are not booked but overlap a maintenance window.
+         */
+        final BitSet maintenance;
+        final BitSet free;
+
+        Occupancy(CatalogMasks catalog, BitSet booked, BitSet maintenance, BitSet free) {
+            this.catalog = catalog;
+            this.booked = booked;
+            this.maintenance = maintenance;
+            this.free = free;
+        }
+
+        /**
+         * Rooms that are not booked: free ones and those only blocked by maintenance.
+         */
+        BitSet notBooked() {
+            BitSet notBooked = (BitSet) free.clone();
+            notBooked.or(maintenance);
+            return notBooked;
+        }
+    }
+}
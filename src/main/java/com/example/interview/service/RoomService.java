@@ -1,18 +1,38 @@
 package com.example.interview.service;
 
-import com.example.interview.exception.MaintenanceTimeException;
+import com.example.interview.config.AvailabilityCoalescingConfig;
+import com.example.interview.dto.RoomOccupancy;
+import com.example.interview.dto.RoomSchedule;
+import com.example.interview.exception.RoomNotFoundException;
 import com.example.interview.model.Booking;
 import com.example.interview.model.ConferenceRoom;
+import com.example.interview.model.RecurringBooking;
 import com.example.interview.repo.BookingRepository;
 import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.repo.FreeRoomCounts;
+import com.example.interview.repo.RecurringBookingRepository;
+import com.example.interview.timing.Phase;
+import com.example.interview.timing.RequestTiming;
+import com.example.interview.utils.ETags;
+import com.example.interview.utils.SingleFlight;
+import com.example.interview.utils.TimeCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -24,58 +44,180 @@ public class RoomService {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private RecurringBookingRepository recurringBookingRepository;
+
+    @Autowired
+    private RoomClassifier roomClassifier;
+
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    private AvailabilityCoalescingConfig coalescingConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SingleFlight<AvailabilityQuery, List<ConferenceRoom>> availabilityQueries;
+
+    @PostConstruct
+    void createAvailabilityQueries() {
+        availabilityQueries = new SingleFlight<>("availability", coalescingConfig.getMaxInFlight(), meterRegistry);
+    }
+
     public List<ConferenceRoom> getAvailableRooms(String startTimeStr, String endTimeStr) {
         log.info("getAvailableRooms called with startTime: {} and endTime: {}", startTimeStr, endTimeStr);
 
-        LocalTime startTime = parseAndValidateTime(startTimeStr, "start");
-        LocalTime endTime = parseAndValidateTime(endTimeStr, "end");
+        int startTime;
+        int endTime;
+        try (RequestTiming.Span span = RequestTiming.span(Phase.VALIDATE)) {
+            startTime = parseAndValidateTime(startTimeStr, "start");
+            endTime = parseAndValidateTime(endTimeStr, "end");
+            if (startTime >= endTime) {
+                log.error("Start time {} is not before end time {}", startTimeStr, endTimeStr);
+                throw new IllegalArgumentException("Start time must be before end time.");
+            }
+        }
 
-        if (!startTime.isBefore(endTime)) {
-            log.error("Start time {} is not before end time {}", startTime, endTime);
-            throw new IllegalArgumentException("Start time must be before end time.");
+        // A coalesced query counts its wait for the shared computation as scanning
+        try (RequestTiming.Span span = RequestTiming.span(Phase.SCAN)) {
+            if (!coalescingConfig.isEnabled()) {
+                return computeAvailableRooms(startTime, endTime);
+            }
+            // The versions in the key are read before the computation starts, so a caller only joins a computation
+            // that has seen every change made before the caller arrived
+            AvailabilityQuery query = new AvailabilityQuery(startTime, endTime, conferenceRoomRepository.version(),
+                                                            bookingRepository.version(),
+                                                            recurringBookingRepository.version(),
+                                                            LocalDate.now(clock).toEpochDay());
+            return availabilityQueries.execute(query, () -> computeAvailableRooms(startTime, endTime));
         }
+    }
 
-        return conferenceRoomRepository.findAll().stream()
-                .filter(room -> isRoomAvailable(room, startTime, endTime))
-                .collect(Collectors.toList());
+    private List<ConferenceRoom> computeAvailableRooms(int startTime, int endTime) {
+        AvailabilityQueryEvent event = new AvailabilityQueryEvent();
+        event.begin();
+        RoomClassifier.Occupancy occupancy = roomClassifier.classify(startTime, endTime);
+        List<ConferenceRoom> available = occupancy.catalog.toList(occupancy.free);
+        log.debug("{} rooms free, {} booked, {} under maintenance", available.size(),
+                  occupancy.booked.cardinality(), occupancy.maintenance.cardinality());
+        event.end();
+        if (event.shouldCommit()) {
+            event.startTime = TimeCodec.format(startTime);
+            event.endTime = TimeCodec.format(endTime);
+            event.roomsBooked = occupancy.booked.cardinality();
+            event.roomsUnderMaintenance = occupancy.maintenance.cardinality();
+            event.roomsFree = available.size();
+            event.roomsScanned = event.roomsBooked + event.roomsUnderMaintenance + event.roomsFree;
+            event.bookings = bookingRepository.count();
+            event.commit();
+        }
+        return Collections.unmodifiableList(available);
     }
 
-    private LocalTime parseAndValidateTime(String timeStr, String type) {
-        try {
-            LocalTime time = LocalTime.parse(timeStr);
-            log.debug("Parsed {} time: {}", type, time);
-            return time;
-        } catch (DateTimeParseException e) {
-            log.error("Invalid {} time format: {}", type, timeStr, e);
-            throw new IllegalArgumentException("Invalid " + type + " time format. Please use HH:mm format (e.g., 14:30).");
+    /**
+     * Booked and free rooms at each slot overlapping the given times, by default the whole day. Today's recurring
+     * occurrences count as bookings, as they do for {@link #getAvailableRooms}.
+     */
+    public RoomOccupancy getOccupancy(String startTimeStr, String endTimeStr) {
+        int startTime = startTimeStr == null ? 0 : parseAndValidateTime(startTimeStr, "start");
+        int endTime = endTimeStr == null ? TimeCodec.MINUTES_PER_DAY : parseAndValidateTime(endTimeStr, "end");
+        if (startTime >= endTime) {
+            log.error("Start time {} is not before end time {}", startTimeStr, endTimeStr);
+            throw new IllegalArgumentException("Start time must be before end time.");
+        }
+
+        BitSet[] recurring = recurringBookingRepository.occupiedRoomsBySlot(LocalDate.now(clock), startTime, endTime);
+        FreeRoomCounts counts = bookingRepository.freeRooms(startTime, endTime, recurring);
+        List<RoomOccupancy.Slot> slots = new ArrayList<>(counts.getBooked().length);
+        for (int i = 0; i < counts.getBooked().length; i++) {
+            Map<Integer, Integer> byCapacity = new LinkedHashMap<>();
+            for (int band = 0; band < counts.getCapacities().length; band++) {
+                byCapacity.put(counts.getCapacities()[band], counts.getFree()[i][band]);
+            }
+            slots.add(new RoomOccupancy.Slot(TimeCodec.format(TimeCodec.slotToMinute(counts.getFromSlot() + i)),
+                                             counts.getBooked()[i], byCapacity.isEmpty() ? 0 : counts.getFree()[i][0],
+                                             byCapacity));
         }
+        return RoomOccupancy.builder().slots(slots).build();
     }
 
-    private boolean isRoomAvailable(ConferenceRoom room, LocalTime startTime, LocalTime endTime) {
-        log.debug("Checking availability for room: {} between {} and {}", room.getName(), startTime, endTime);
+    /**
+     * Rebinds the occupancy counters to the reloaded catalog, so the first occupancy request after a reload does not
+     * pay for it.
+     */
+    @EventListener(RoomCatalogReloadedEvent.class)
+    public void catalogReloaded() {
+        bookingRepository.bindCatalog();
+    }
 
-        // Check for overlapping maintenance windows
-        boolean maintenanceOverlap = room.getMaintenanceSchedule().stream()
-                .anyMatch(slot -> timeOverlaps(startTime, endTime, slot[0], slot[1]));
+    /**
+     * Strong ETag for {@link #getAvailableRooms}: changes whenever the catalog, the bookings, the recurring bookings or
+     * the current date change. Computed from a few version counters, so it costs the same for any catalog size; it
+     * must be taken before the availability it describes.
+     */
+    public String getAvailabilityETag() {
+        return ETags.of("a", conferenceRoomRepository.version(), bookingRepository.version(),
+                        recurringBookingRepository.version(), LocalDate.now(clock).toEpochDay());
+    }
 
-        if (maintenanceOverlap) {
-            log.warn("Room {} is unavailable due to maintenance overlap", room.getName());
-            return false;
+    /**
+     * Today's occupancy of a room: its bookings merged with the recurring bookings that occur today.
+     */
+    public RoomSchedule getSchedule(String roomName) {
+        ConferenceRoom room = conferenceRoomRepository.findByName(roomName)
+                .orElseThrow(() -> new RoomNotFoundException("Room '" + roomName + "' not found."));
+        LocalDate today = LocalDate.now(clock);
+
+        List<Booking> bookings = bookingRepository.findByRoom(room);
+        List<RecurringBooking> recurring = recurringBookingRepository.findOccurrences(room, today);
+        List<RoomSchedule.Entry> entries = new ArrayList<>(bookings.size() + recurring.size());
+        int b = 0;
+        int r = 0;
+        while (b < bookings.size() || r < recurring.size()) {
+            if (r == recurring.size()
+                    || b < bookings.size() && !bookings.get(b).getStartTime().isAfter(recurring.get(r).getStartTime())) {
+                Booking booking = bookings.get(b++);
+                entries.add(entry(RoomSchedule.EntryType.BOOKING, booking.getId(), booking.getStartTime(),
+                                  booking.getEndTime(), booking.getNumberOfPeople()));
+            } else {
+                RecurringBooking occurrence = recurring.get(r++);
+                entries.add(entry(RoomSchedule.EntryType.RECURRING, occurrence.getId(), occurrence.getStartTime(),
+                                  occurrence.getEndTime(), occurrence.getNumberOfPeople()));
+            }
         }
 
-        // Check for overlapping existing bookings
-        boolean bookingOverlap = bookingRepository.findByRoomAndTime(room, startTime, endTime).isEmpty();
+        return RoomSchedule.builder()
+                .room(room.getName())
+                .date(today)
+                .entries(entries)
+                .build();
+    }
 
-        if (!bookingOverlap) {
-            log.warn("Room {} is not available due to existing bookings", room.getName());
-            return false;
-        }
+    private static RoomSchedule.Entry entry(RoomSchedule.EntryType type, long id, LocalTime startTime,
+                                            LocalTime endTime, int numberOfPeople) {
+        return new RoomSchedule.Entry(type, id, TimeCodec.format(TimeCodec.minuteOfDay(startTime)),
+                                      TimeCodec.format(TimeCodec.minuteOfDay(endTime)), numberOfPeople);
+    }
 
-        log.debug("Room {} is available for the requested time slot", room.getName());
-        return true;
+    @Value
+    private static class AvailabilityQuery {
+        int startTime;
+        int endTime;
+        long catalogVersion;
+        long bookingVersion;
+        long recurringVersion;
+        long epochDay;
     }
 
-    private boolean timeOverlaps(LocalTime start1, LocalTime end1, LocalTime start2, LocalTime end2) {
-        return start1.isBefore(end2) && end1.isAfter(start2);
+    private int parseAndValidateTime(String timeStr, String type) {
+        int minuteOfDay = TimeCodec.parseMinuteOfDay(timeStr);
+        if (minuteOfDay == TimeCodec.INVALID) {
+            log.error("Invalid {} time format: {}", type, timeStr);
+            throw new IllegalArgumentException("Invalid " + type + " time format. Please use HH:mm format (e.g., 14:30).");
+        }
+        log.debug("Parsed {} time: {}", type, timeStr);
+        return minuteOfDay;
     }
 }
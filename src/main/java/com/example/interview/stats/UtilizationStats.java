@@ -0,0 +1,244 @@
+package com.example.interview.stats;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.interview.config.UtilizationConfig;
+import com.example.interview.dto.UtilizationReport;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.repo.BookingChange;
+import com.example.interview.repo.BookingChangeListener;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.BookingSnapshot;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.service.RoomCatalogReloadedEvent;
+import com.example.interview.utils.TimeCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Running utilization counters per room, per slot and per hour, updated on every booking change and rejection so a
+ * report costs O(rooms + slots) and never reads the bookings. The counters are atomics rather than guarded by a lock,
+ * so a report never holds up a booking; one taken during a change may see it half applied.
+ */
+@Component
+public class UtilizationStats implements BookingChangeListener {
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final int SLOTS_PER_HOUR = 60 / TimeCodec.MINUTES_PER_SLOT;
+
+    private final BookingRepository bookingRepository;
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final int openFromSlot;
+    private final int openToSlot;
+
+    // Changes arrive one at a time under the repository's write lock, so only readers run concurrently with them
+    private final AtomicIntegerArray bookedRoomsBySlot = new AtomicIntegerArray(TimeCodec.SLOTS_PER_DAY);
+    // Rooms counted in bookedRoomsBySlot: the active rooms as of the last recount
+    private volatile BitSet activeRooms = new BitSet();
+    private volatile AtomicIntegerArray bookingsByRoom = new AtomicIntegerArray(0);
+    private volatile AtomicIntegerArray openSlotsByRoom = new AtomicIntegerArray(0);
+    private final AtomicLongArray rejectedByHour = new AtomicLongArray(HOURS_PER_DAY);
+    private final Map<String, LongAdder> rejectedByReason = new ConcurrentHashMap<>();
+    private final LongAdder added = new LongAdder();
+    private final LongAdder removed = new LongAdder();
+    private final LongAdder moved = new LongAdder();
+    private final LongAdder waitlisted = new LongAdder();
+
+    @Autowired
+    public UtilizationStats(UtilizationConfig config, BookingRepository bookingRepository,
+                            ConferenceRoomRepository conferenceRoomRepository) {
+        this.bookingRepository = bookingRepository;
+        this.conferenceRoomRepository = conferenceRoomRepository;
+        this.openFromSlot = TimeCodec.toSlot(TimeCodec.minuteOfDay(config.getOpeningTime()));
+        this.openToSlot = Math.max(openFromSlot + 1,
+                                   TimeCodec.ceilSlot(TimeCodec.minuteOfDay(config.getClosingTime())));
+    }
+
+    @PostConstruct
+    public void start() {
+        // Bookings loaded from a persistent store; nothing else writes before the application is up
+        activeRooms = conferenceRoomRepository.masks().active();
+        BookingSnapshot bookings = bookingRepository.snapshot(null, 0, TimeCodec.MINUTES_PER_DAY);
+        for (int i = 0; i < bookings.size(); i++) {
+            apply(conferenceRoomRepository.indexOf(bookings.room(i)), bookings.startSlot(i), bookings.endSlot(i), 1);
+        }
+        bookingRepository.addListener(this);
+    }
+
+    /**
+     * Recounts the booked rooms per slot for the reloaded catalog, so bookings left in retired rooms no longer count
+     * towards hourly occupancy. Runs under the repository's write lock, so no change is applied meanwhile.
+     */
+    @EventListener(RoomCatalogReloadedEvent.class)
+    public void catalogReloaded() {
+        bookingRepository.exclusively(() -> {
+            BitSet active = conferenceRoomRepository.masks().active();
+            int[] bookedRooms = new int[TimeCodec.SLOTS_PER_DAY];
+            BookingSnapshot bookings = bookingRepository.snapshot(null, 0, TimeCodec.MINUTES_PER_DAY);
+            for (int i = 0; i < bookings.size(); i++) {
+                if (active.get(conferenceRoomRepository.indexOf(bookings.room(i)))) {
+                    for (int slot = bookings.startSlot(i); slot < bookings.endSlot(i); slot++) {
+                        bookedRooms[slot]++;
+                    }
+                }
+            }
+            activeRooms = active;
+            for (int slot = 0; slot < bookedRooms.length; slot++) {
+                bookedRoomsBySlot.set(slot, bookedRooms[slot]);
+            }
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        bookingRepository.removeListener(this);
+    }
+
+    @Override
+    public void bookingChanged(BookingChange change) {
+        switch (change.getType()) {
+            case ADDED -> {
+                apply(change.getRoom(), change.getStartSlot(), change.getEndSlot(), 1);
+                // A move is a removal followed by an addition; count it once
+                (change.isMoved() ? moved : added).increment();
+            }
+            case REMOVED -> {
+                apply(change.getRoom(), change.getStartSlot(), change.getEndSlot(), -1);
+                if (!change.isMoved()) {
+                    removed.increment();
+                }
+            }
+            case CLEARED -> {
+                reset(bookedRoomsBySlot);
+                reset(bookingsByRoom);
+                reset(openSlotsByRoom);
+            }
+        }
+    }
+
+    /**
+     * Counts a booking request rejected with {@code reason}, and its interval against each hour it overlaps when the
+     * times are valid.
+     */
+    public void rejected(String startTime, String endTime, String reason) {
+        rejectedByReason.computeIfAbsent(reason, key -> new LongAdder()).increment();
+        int start = TimeCodec.parseMinuteOfDay(startTime);
+        int end = TimeCodec.parseMinuteOfDay(endTime);
+        if (start == TimeCodec.INVALID || end == TimeCodec.INVALID || start >= end) {
+            return;
+        }
+        for (int hour = start / 60; hour <= (end - 1) / 60; hour++) {
+            rejectedByHour.incrementAndGet(hour);
+        }
+    }
+
+    public void waitlisted() {
+        waitlisted.increment();
+    }
+
+    public UtilizationReport report() {
+        List<ConferenceRoom> rooms = conferenceRoomRepository.findAll();
+        int countedRooms = activeRooms.cardinality();
+        AtomicIntegerArray bookings = bookingsByRoom;
+        AtomicIntegerArray openSlots = openSlotsByRoom;
+        int openSlotCount = openToSlot - openFromSlot;
+
+        List<UtilizationReport.RoomUtilization> roomUtilization = new ArrayList<>(rooms.size());
+        for (ConferenceRoom room : rooms) {
+            int index = conferenceRoomRepository.indexOf(room);
+            int booked = index < openSlots.length() ? openSlots.get(index) : 0;
+            roomUtilization.add(new UtilizationReport.RoomUtilization(
+                    room.getName(), room.getCapacity(), index < bookings.length() ? bookings.get(index) : 0,
+                    booked * TimeCodec.MINUTES_PER_SLOT, percent(booked, openSlotCount)));
+        }
+
+        List<UtilizationReport.HourUtilization> hours = new ArrayList<>();
+        List<String> peakHours = new ArrayList<>();
+        double peak = 0;
+        for (int hour = openFromSlot / SLOTS_PER_HOUR; hour * SLOTS_PER_HOUR < openToSlot; hour++) {
+            int from = Math.max(openFromSlot, hour * SLOTS_PER_HOUR);
+            int to = Math.min(openToSlot, (hour + 1) * SLOTS_PER_HOUR);
+            long bookedRoomSlots = 0;
+            for (int slot = from; slot < to; slot++) {
+                bookedRoomSlots += bookedRoomsBySlot.get(slot);
+            }
+            double occupancy = percent(bookedRoomSlots, (long) (to - from) * Math.max(1, countedRooms));
+            String label = TimeCodec.format(hour * 60);
+            hours.add(new UtilizationReport.HourUtilization(label, occupancy, rejectedByHour.get(hour)));
+            if (occupancy > peak) {
+                peak = occupancy;
+                peakHours.clear();
+            }
+            if (occupancy == peak && occupancy > 0) {
+                peakHours.add(label);
+            }
+        }
+
+        Map<String, Long> reasons = new TreeMap<>();
+        rejectedByReason.forEach((reason, count) -> reasons.put(reason, count.sum()));
+        return UtilizationReport.builder()
+                .openingTime(TimeCodec.format(TimeCodec.slotToMinute(openFromSlot)))
+                .closingTime(TimeCodec.format(TimeCodec.slotToMinute(openToSlot)))
+                .rooms(roomUtilization)
+                .hours(hours)
+                .peakHours(peakHours)
+                .bookingsAdded(added.sum())
+                .bookingsRemoved(removed.sum())
+                .bookingsMoved(moved.sum())
+                .waitlisted(waitlisted.sum())
+                .rejected(reasons.values().stream().mapToLong(Long::longValue).sum())
+                .rejectedByReason(reasons)
+                .build();
+    }
+
+    private void apply(int room, int startSlot, int endSlot, int delta) {
+        if (room < 0) {
+            return;
+        }
+        if (room >= bookingsByRoom.length()) {
+            bookingsByRoom = grow(bookingsByRoom, room + 1);
+            openSlotsByRoom = grow(openSlotsByRoom, room + 1);
+        }
+        bookingsByRoom.addAndGet(room, delta);
+        int openSlots = Math.min(endSlot, openToSlot) - Math.max(startSlot, openFromSlot);
+        if (openSlots > 0) {
+            openSlotsByRoom.addAndGet(room, delta * openSlots);
+        }
+        if (!activeRooms.get(room)) {
+            return;
+        }
+        for (int slot = startSlot; slot < endSlot; slot++) {
+            bookedRoomsBySlot.addAndGet(slot, delta);
+        }
+    }
+
+    private static AtomicIntegerArray grow(AtomicIntegerArray counters, int length) {
+        AtomicIntegerArray grown = new AtomicIntegerArray(Math.max(length, counters.length() * 2));
+        for (int i = 0; i < counters.length(); i++) {
+            grown.set(i, counters.get(i));
+        }
+        return grown;
+    }
+
+    private static void reset(AtomicIntegerArray counters) {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0 ? 0 : Math.round(part * 1000.0 / whole) / 10.0;
+    }
+}
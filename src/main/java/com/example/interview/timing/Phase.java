@@ -0,0 +1,29 @@
+package com.example.interview.timing;
+
+/**
+ * Parts of a request timed by {@link RequestTiming}, in the order they usually run.
+ */
+public enum Phase {
+    /** Reading and deserializing the request body. */
+    PARSE("parse"),
+    /** Parsing and checking times and group sizes. */
+    VALIDATE("validate"),
+    /** Classifying rooms as free, booked or under maintenance. */
+    SCAN("scan"),
+    /** Choosing a room among the free ones. */
+    ALLOCATE("allocate"),
+    /** Storing or moving the booking in the repository. */
+    INSERT("insert"),
+    /** Rendering the response body in the controller. */
+    SERIALIZE("serialize");
+
+    private final String metricName;
+
+    Phase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.interview.timing;
+
+/**
+ * Time spent per {@link Phase} by the request running on the current thread. Code marks a phase with
+ * {@code try (RequestTiming.Span span = RequestTiming.span(Phase.SCAN)) {...}}; outside a timed request the span is a
+ * shared no-op, so marking costs a thread-local lookup. Time in a phase entered more than once is summed.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long started = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private int recorded;
+    // Set between reading and deserializing the body; see ServerTimingAdvice
+    long bodyReadStarted;
+
+    /**
+     * Starts timing a request on the current thread.
+     */
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Stops timing the request on the current thread, if any.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static Span span(Phase phase) {
+        RequestTiming timing = CURRENT.get();
+        return timing == null ? Span.NONE : new Span(timing, phase, System.nanoTime());
+    }
+
+    public void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        recorded |= 1 << phase.ordinal();
+    }
+
+    public boolean isRecorded(Phase phase) {
+        return (recorded & 1 << phase.ordinal()) != 0;
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - started;
+    }
+
+    /**
+     * Value of a {@code Server-Timing} header: each recorded phase in order, then the time since the request started,
+     * in milliseconds, e.g. {@code validate;dur=0.012, scan;dur=0.204, total;dur=0.731}.
+     */
+    public String serverTiming() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            if (isRecorded(phase)) {
+                appendMetric(header, phase.metricName(), nanos(phase)).append(", ");
+            }
+        }
+        return appendMetric(header, "total", elapsedNanos()).toString();
+    }
+
+    private static StringBuilder appendMetric(StringBuilder header, String name, long nanos) {
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            header.append(fraction < 10 ? "00" : "0");
+        }
+        return header.append(fraction);
+    }
+
+    public static final class Span implements AutoCloseable {
+
+        static final Span NONE = new Span(null, null, 0);
+
+        private final RequestTiming timing;
+        private final Phase phase;
+        private final long started;
+
+        private Span(RequestTiming timing, Phase phase, long started) {
+            this.timing = timing;
+            this.phase = phase;
+            this.started = started;
+        }
+
+        @Override
+        public void close() {
+            if (timing != null) {
+                timing.add(phase, System.nanoTime() - started);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.interview.timing;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Times each request handled by a controller method and, once it completes, records its phases and total time in
+ * {@code request.phase} histograms tagged with the handler, e.g. {@code BookingController.bookRoom}.
+ */
+public class RequestTimingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final MeterRegistry registry;
+    // Per handler method: a timer per phase, then one for the total
+    private final ConcurrentHashMap<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public RequestTimingInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            RequestTiming.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        RequestTiming.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestTiming timing = RequestTiming.current();
+        RequestTiming.end();
+        if (timing == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Timer[] handlerTimers = timers.computeIfAbsent(handlerMethod.getMethod(), method -> register(handlerMethod));
+        for (Phase phase : PHASES) {
+            if (timing.isRecorded(phase)) {
+                handlerTimers[phase.ordinal()].record(timing.nanos(phase), TimeUnit.NANOSECONDS);
+            }
+        }
+        handlerTimers[PHASES.length].record(timing.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] register(HandlerMethod handlerMethod) {
+        String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        Timer[] handlerTimers = new Timer[PHASES.length + 1];
+        for (Phase phase : PHASES) {
+            handlerTimers[phase.ordinal()] = timer(name, phase.metricName());
+        }
+        handlerTimers[PHASES.length] = timer(name, "total");
+        return handlerTimers;
+    }
+
+    private Timer timer(String handler, String phase) {
+        return Timer.builder("request.phase")
+                .tag("handler", handler)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
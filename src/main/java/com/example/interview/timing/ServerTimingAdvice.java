@@ -0,0 +1,68 @@
+package com.example.interview.timing;
+
+import java.lang.reflect.Type;
+
+import com.example.interview.config.RequestTimingConfig;
+import com.example.interview.controller.BookingController;
+import com.example.interview.controller.RoomController;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Times reading the request body as {@link Phase#PARSE} and adds the {@code Server-Timing} header just before the
+ * response body is written. Serialization by message converters happens after that, so the header only covers bodies
+ * the controller renders itself; the {@code total} histogram includes it.
+ */
+@ControllerAdvice(assignableTypes = {BookingController.class, RoomController.class})
+public class ServerTimingAdvice extends RequestBodyAdviceAdapter implements ResponseBodyAdvice<Object> {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Autowired
+    private RequestTimingConfig config;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return RequestTiming.current() != null;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestTiming.current().bodyReadStarted = System.nanoTime();
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestTiming timing = RequestTiming.current();
+        timing.add(Phase.PARSE, System.nanoTime() - timing.bodyReadStarted);
+        return body;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return config.isServerTimingHeader();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            response.getHeaders().set(SERVER_TIMING_HEADER, timing.serverTiming());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.interview.utils;
+
+/**
+ * Builds strong ETags from repository versions. Versions restart with the process, so every tag carries a per-process
+ * prefix and tags from before a restart never match.
+ */
+public final class ETags {
+
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    private ETags() {
+    }
+
+    /**
+     * Returns a quoted tag such as {@code "b<epoch>-5-42"} for the given kind and versions.
+     */
+    public static String of(String kind, long... versions) {
+        StringBuilder tag = new StringBuilder(32).append('"').append(kind).append(EPOCH);
+        for (long version : versions) {
+            tag.append('-').append(version);
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * The tag of another representation of the same version, such as a compressed one.
+     */
+    public static String variant(String etag, String suffix) {
+        return etag.substring(0, etag.length() - 1) + '-' + suffix + '"';
+    }
+}
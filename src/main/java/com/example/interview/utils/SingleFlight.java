@@ -0,0 +1,85 @@
+package com.example.interview.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs a computation once for concurrent callers with an equal key: the first caller computes, the others wait for and
+ * share its result or exception. A key is forgotten as soon as its computation finishes, so results are never reused
+ * by later callers. Once {@code maxInFlight} keys are in flight, callers with a new key compute on their own.
+ */
+public class SingleFlight<K, V> {
+
+    private final int maxInFlight;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter computed;
+    private final Counter coalesced;
+    private final Counter bypassed;
+
+    public SingleFlight(String name, int maxInFlight, MeterRegistry registry) {
+        this.maxInFlight = maxInFlight;
+        this.computed = Counter.builder("coalescing.requests").tag("name", name).tag("outcome", "computed")
+                .register(registry);
+        this.coalesced = Counter.builder("coalescing.requests").tag("name", name).tag("outcome", "coalesced")
+                .register(registry);
+        this.bypassed = Counter.builder("coalescing.requests").tag("name", name).tag("outcome", "bypassed")
+                .register(registry);
+        Gauge.builder("coalescing.in_flight", inFlight, ConcurrentHashMap::size).tag("name", name).register(registry);
+    }
+
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> running = inFlight.get(key);
+        if (running == null) {
+            if (inFlight.size() >= maxInFlight) {
+                bypassed.increment();
+                return computation.get();
+            }
+            CompletableFuture<V> result = new CompletableFuture<>();
+            running = inFlight.putIfAbsent(key, result);
+            if (running == null) {
+                computed.increment();
+                return compute(key, result, computation);
+            }
+        }
+        coalesced.increment();
+        return await(running);
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V compute(K key, CompletableFuture<V> result, Supplier<V> computation) {
+        try {
+            V value = computation.get();
+            result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, result);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
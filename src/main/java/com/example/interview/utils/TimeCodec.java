@@ -0,0 +1,102 @@
+package com.example.interview.utils;
+
+import java.time.LocalTime;
+
+/**
+ * Parses and formats HH:mm times as primitive minute-of-day values so that request handling does not need regexes
+ * or {@link LocalTime} instances on the hot path.
+ */
+public final class TimeCodec {
+
+    public static final int INVALID = -1;
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_SLOT = 15;
+    public static final int SLOTS_PER_DAY = MINUTES_PER_DAY / MINUTES_PER_SLOT;
+
+    private TimeCodec() {
+    }
+
+    /**
+     * Accepts the same grammar as {@code ^([01]?[0-9]|2[0-3]):[0-5][0-9]$} and returns the minute of day, or
+     * {@link #INVALID} if the text does not match.
+     */
+    public static int parseMinuteOfDay(CharSequence text) {
+        if (text == null) {
+            return INVALID;
+        }
+        int length = text.length();
+        if (length != 4 && length != 5) {
+            return INVALID;
+        }
+        int colon = length - 3;
+        if (text.charAt(colon) != ':') {
+            return INVALID;
+        }
+
+        int hours = digit(text.charAt(0));
+        if (colon == 2) {
+            int units = digit(text.charAt(1));
+            if (hours < 0 || units < 0) {
+                return INVALID;
+            }
+            hours = hours * 10 + units;
+        }
+        int minuteTens = digit(text.charAt(colon + 1));
+        int minuteUnits = digit(text.charAt(colon + 2));
+
+        if (hours < 0 || hours > 23 || minuteTens < 0 || minuteTens > 5 || minuteUnits < 0) {
+            return INVALID;
+        }
+        return hours * 60 + minuteTens * 10 + minuteUnits;
+    }
+
+    public static boolean isValid(CharSequence text) {
+        return parseMinuteOfDay(text) != INVALID;
+    }
+
+    public static boolean isSlotAligned(int minuteOfDay) {
+        return minuteOfDay % MINUTES_PER_SLOT == 0;
+    }
+
+    public static int toSlot(int minuteOfDay) {
+        return minuteOfDay / MINUTES_PER_SLOT;
+    }
+
+    /**
+     * Index of the first slot starting at or after the minute, i.e. the exclusive end slot of an interval ending then.
+     */
+    public static int ceilSlot(int minuteOfDay) {
+        return (minuteOfDay + MINUTES_PER_SLOT - 1) / MINUTES_PER_SLOT;
+    }
+
+    public static int slotToMinute(int slot) {
+        return slot * MINUTES_PER_SLOT;
+    }
+
+    public static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public static LocalTime toLocalTime(int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    public static String format(int minuteOfDay) {
+        int hours = minuteOfDay / 60;
+        int minutes = minuteOfDay % 60;
+        return new String(new char[] {
+                (char) ('0' + hours / 10), (char) ('0' + hours % 10), ':',
+                (char) ('0' + minutes / 10), (char) ('0' + minutes % 10)});
+    }
+
+    /**
+     * Half-open interval overlap, so back-to-back intervals do not conflict.
+     */
+    public static boolean overlaps(int start1, int end1, int start2, int end2) {
+        return start1 < end2 && end1 > start2;
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.interview.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Validates that a string is an HH:mm time of day. {@code null} values are considered valid.
+ */
+@Documented
+@Constraint(validatedBy = TimeOfDayValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOfDay {
+
+    String message() default "Invalid time format. Use HH:mm format.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,13 @@
+package com.example.interview.validation;
+
+import com.example.interview.utils.TimeCodec;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class TimeOfDayValidator implements ConstraintValidator<TimeOfDay, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || TimeCodec.isValid(value);
+    }
+}
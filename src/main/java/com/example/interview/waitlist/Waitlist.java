@@ -0,0 +1,120 @@
+package com.example.interview.waitlist;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import com.example.interview.config.WaitlistConfig;
+import com.example.interview.model.WaitlistEntry;
+import com.example.interview.utils.TimeCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Booking requests waiting for a room. Each 15-minute slot keeps the entries covering it in arrival order, so a freed
+ * interval only visits the entries that overlap it, first come first served.
+ */
+@Component
+public class Waitlist {
+
+    private static final Comparator<Parked> ARRIVAL_ORDER = Comparator.comparingLong(parked -> parked.sequence);
+
+    private final WaitlistConfig config;
+
+    private final Map<Long, Parked> entries = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final TreeSet<Parked>[] slots = new TreeSet[TimeCodec.SLOTS_PER_DAY];
+    private long sequence;
+
+    @Autowired
+    public Waitlist(WaitlistConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Parks the entry; returns false if the waitlist is full.
+     */
+    public synchronized boolean add(WaitlistEntry entry) {
+        if (entries.size() >= config.getMaxEntries()) {
+            return false;
+        }
+        Parked parked = new Parked(entry, sequence++);
+        entries.put(entry.getId(), parked);
+        for (int slot = parked.fromSlot; slot < parked.toSlot; slot++) {
+            if (slots[slot] == null) {
+                slots[slot] = new TreeSet<>(ARRIVAL_ORDER);
+            }
+            slots[slot].add(parked);
+        }
+        return true;
+    }
+
+    public synchronized Optional<WaitlistEntry> find(long id) {
+        Parked parked = entries.get(id);
+        return parked == null ? Optional.empty() : Optional.of(parked.entry);
+    }
+
+    public synchronized boolean remove(long id) {
+        Parked parked = entries.remove(id);
+        if (parked == null) {
+            return false;
+        }
+        unlink(parked);
+        return true;
+    }
+
+    /**
+     * Returns the entries overlapping {@code [startMinute, endMinute)} in arrival order. Callers book them outside the
+     * waitlist lock and then {@link #remove} them; the entry id doubles as the booking id, so an entry can only be
+     * booked once.
+     */
+    public synchronized List<WaitlistEntry> candidates(int startMinute, int endMinute) {
+        TreeSet<Parked> candidates = new TreeSet<>(ARRIVAL_ORDER);
+        int end = Math.min(slots.length, TimeCodec.ceilSlot(endMinute));
+        for (int slot = TimeCodec.toSlot(startMinute); slot < end; slot++) {
+            if (slots[slot] != null) {
+                candidates.addAll(slots[slot]);
+            }
+        }
+        List<WaitlistEntry> entries = new ArrayList<>(candidates.size());
+        for (Parked parked : candidates) {
+            entries.add(parked.entry);
+        }
+        return entries;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        for (int slot = 0; slot < slots.length; slot++) {
+            slots[slot] = null;
+        }
+    }
+
+    private void unlink(Parked parked) {
+        for (int slot = parked.fromSlot; slot < parked.toSlot; slot++) {
+            slots[slot].remove(parked);
+        }
+    }
+
+    private static final class Parked {
+        final WaitlistEntry entry;
+        final long sequence;
+        final int fromSlot;
+        final int toSlot;
+
+        Parked(WaitlistEntry entry, long sequence) {
+            this.entry = entry;
+            this.sequence = sequence;
+            this.fromSlot = TimeCodec.toSlot(TimeCodec.minuteOfDay(entry.getStartTime()));
+            this.toSlot = TimeCodec.ceilSlot(TimeCodec.minuteOfDay(entry.getEndTime()));
+        }
+    }
+}
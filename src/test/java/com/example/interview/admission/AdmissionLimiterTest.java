@@ -0,0 +1,100 @@
+package com.example.interview.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.example.interview.config.AdmissionConfig;
+import org.junit.jupiter.api.Test;
+
+class AdmissionLimiterTest {
+
+    @Test
+    public void testAcquire_beyondLimitWithFullQueue_isRejected() throws InterruptedException {
+        AdmissionLimiter limiter = new AdmissionLimiter(config(2, 0, false));
+
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.acquire());
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.acquire());
+        assertEquals(AdmissionLimiter.Decision.QUEUE_FULL, limiter.acquire());
+
+        limiter.release(0);
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.acquire());
+    }
+
+    @Test
+    public void testAcquire_queuedRequestTimesOut() throws InterruptedException {
+        AdmissionLimiter limiter = new AdmissionLimiter(config(1, 1, false));
+        limiter.acquire();
+
+        assertEquals(AdmissionLimiter.Decision.TIMED_OUT, limiter.acquire());
+        assertEquals(0, limiter.getWaiting());
+    }
+
+    @Test
+    public void testAcquire_queuedRequestIsAdmittedWhenPermitIsReleased() throws Exception {
+        AdmissionConfig config = config(1, 1, false);
+        config.setQueueTimeout(Duration.ofSeconds(5));
+        AdmissionLimiter limiter = new AdmissionLimiter(config);
+        limiter.acquire();
+
+        CompletableFuture<AdmissionLimiter.Decision> queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (limiter.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+        limiter.release(0);
+
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void testRelease_adaptiveLimitFollowsLatency() throws InterruptedException {
+        AdmissionLimiter limiter = new AdmissionLimiter(config(10, 0, true));
+        long slow = Duration.ofSeconds(1).toNanos();
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.release(slow);
+        }
+        assertEquals(4, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.release(0);
+        }
+        assertTrue(limiter.getLimit() > 10, "limit should grow while latency is under target");
+    }
+
+    @Test
+    public void testRelease_withoutLatencyKeepsTheLimit() throws InterruptedException {
+        AdmissionLimiter limiter = new AdmissionLimiter(config(10, 0, true));
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.release();
+        }
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private AdmissionConfig config(int maxConcurrency, int queueSize, boolean adaptive) {
+        AdmissionConfig config = new AdmissionConfig();
+        config.setMaxConcurrency(maxConcurrency);
+        config.setQueueSize(queueSize);
+        config.setQueueTimeout(Duration.ofMillis(10));
+        config.setAdaptive(adaptive);
+        config.setTargetLatency(Duration.ofMillis(100));
+        config.setMinLimit(4);
+        config.setMaxLimit(64);
+        return config;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.interview.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.example.interview.config.AuditConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class AuditTrailTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRecord_eventsAreWrittenAsCompactLines() throws IOException {
+        AuditTrail auditTrail = new AuditTrail(config(DataSize.ofMegabytes(1)));
+        auditTrail.start();
+
+        auditTrail.record(AuditEvent.builder()
+                                  .timestamp(1_000L)
+                                  .type(AuditEventType.BOOKED)
+                                  .bookingId(7L)
+                                  .room("Amaze")
+                                  .startTime("11:00")
+                                  .endTime("12:00")
+                                  .numberOfPeople(3)
+                                  .build());
+        auditTrail.record(AuditEvent.builder()
+                                  .timestamp(2_000L)
+                                  .type(AuditEventType.REJECTED)
+                                  .startTime("11:00")
+                                  .endTime("12:00")
+                                  .numberOfPeople(20)
+                                  .reason("NoRoomAvailable\ttab")
+                                  .build());
+        auditTrail.stop();
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("audit.log"));
+        assertEquals(List.of("1000\tBOOKED\t7\tAmaze\t11:00\t12:00\t3\t",
+                             "2000\tREJECTED\t\t\t11:00\t12:00\t20\tNoRoomAvailable tab"), lines);
+    }
+
+    @Test
+    public void testRecord_filesAreRotatedBySize() throws IOException {
+        AuditTrail auditTrail = new AuditTrail(config(DataSize.ofBytes(200)));
+        auditTrail.start();
+
+        for (long id = 1; id <= 100; id++) {
+            auditTrail.record(AuditEvent.builder()
+                                      .timestamp(id)
+                                      .type(AuditEventType.DELETED)
+                                      .bookingId(id)
+                                      .build());
+        }
+        auditTrail.stop();
+
+        assertTrue(Files.exists(tempDir.resolve("audit.1.log")));
+        assertTrue(Files.exists(tempDir.resolve("audit.2.log")));
+        assertTrue(Files.notExists(tempDir.resolve("audit.3.log")));
+        List<String> newest = Files.readAllLines(tempDir.resolve("audit.log"));
+        assertTrue(newest.isEmpty() || newest.get(newest.size() - 1).startsWith("100\tDELETED\t100\t"));
+    }
+
+    @Test
+    public void testRotatedName() {
+        assertEquals("audit.log", AuditTrail.rotatedName("audit.log", 0));
+        assertEquals("audit.3.log", AuditTrail.rotatedName("audit.log", 3));
+        assertEquals("audit.3", AuditTrail.rotatedName("audit", 3));
+    }
+
+    private AuditConfig config(DataSize maxFileSize) {
+        AuditConfig config = new AuditConfig();
+        config.setDirectory(tempDir.toString());
+        config.setMaxFileSize(maxFileSize);
+        config.setMaxFiles(3);
+        return config;
+    }
+}
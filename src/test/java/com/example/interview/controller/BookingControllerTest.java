@@ -2,27 +2,41 @@ package com.example.interview.controller;
 
 import static com.example.interview.utils.TestConstants.AMAZE_1100_1200_REQUEST;
 import static com.example.interview.utils.TestConstants.AMAZE_ROOM_NAME;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
+import com.example.interview.dto.BookingLookupResult;
+import com.example.interview.dto.BookingQueryResult;
 import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.BookingUpdateRequest;
+import com.example.interview.dto.CancellationResult;
 import com.example.interview.exception.AllRoomsBookedException;
 import com.example.interview.exception.BookingNotFoundException;
+import com.example.interview.exception.BookingWaitlistedException;
 import com.example.interview.exception.InvalidNumberOfPeopleException;
 import com.example.interview.exception.InvalidTimeIntervalException;
 import com.example.interview.exception.MaintenanceTimeException;
+import com.example.interview.exception.RoomNotFoundException;
 import com.example.interview.model.Booking;
 import com.example.interview.model.ConferenceRoom;
+import com.example.interview.repo.BookingSnapshot;
 import com.example.interview.repo.ConferenceRoomRepository;
 import com.example.interview.service.BookingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -72,7 +86,8 @@ public class BookingControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(new ObjectMapper().writeValueAsString(bookingRequest)))
                 .andExpect(status().isOk())
-                .andExpect(content().string("Room 'Beauty' booked successfully for 5 people from 09:30 to 10:00."));
+                .andExpect(content().string("Room 'Beauty' booked successfully for 5 people from 09:30 to 10:00."))
+                .andExpect(header().string("Server-Timing", startsWith("parse;dur=")));
     }
 
     @Test
@@ -203,6 +218,51 @@ public class BookingControllerTest {
         verify(bookingService).deleteBooking(bookingId);
     }
 
+    @Test
+    void testFindBookings_Success() throws Exception {
+        when(bookingService.findBookings(AMAZE_ROOM_NAME, null, null, 3, null, 10))
+                .thenReturn(BookingQueryResult.builder().bookings(List.of()).nextCursor("abc").build());
+
+        mockMvc.perform(get("/api/bookings").param("room", AMAZE_ROOM_NAME).param("minPeople", "3").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"bookings\":[],\"nextCursor\":\"abc\"}"));
+    }
+
+    @Test
+    void testViewBookings_Success() throws Exception {
+        when(bookingService.findBookingsById(List.of(1L, 2L)))
+                .thenReturn(BookingLookupResult.builder().bookings(List.of()).notFound(List.of(1L, 2L)).build());
+
+        mockMvc.perform(get("/api/bookings/view").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"bookings\":[],\"notFound\":[1,2]}"));
+    }
+
+    @Test
+    void testUpdateBooking_Success() throws Exception {
+        BookingUpdateRequest updateRequest = BookingUpdateRequest.builder().startTime("11:00").endTime("12:30").build();
+        when(bookingService.moveBooking(1L, updateRequest))
+                .thenReturn("Booking 1 moved to room 'Amaze' for 3 people from 11:00 to 12:30.");
+
+        mockMvc.perform(patch("/api/bookings/update/{id}", 1L)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(new ObjectMapper().writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Booking 1 moved to room 'Amaze' for 3 people from 11:00 to 12:30."));
+    }
+
+    @Test
+    void testUpdateBooking_BookingNotFound_ShouldReturnBadRequest() throws Exception {
+        when(bookingService.moveBooking(any(), any()))
+                .thenThrow(new BookingNotFoundException("Booking with ID 1 not found."));
+
+        mockMvc.perform(patch("/api/bookings/update/{id}", 1L)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"endTime\":\"12:30\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Booking with ID 1 not found."));
+    }
+
     @Test
     void testViewBooking_Success() throws Exception {
         ConferenceRoom room = conferenceRoomRepository.findByName(AMAZE_ROOM_NAME).orElseThrow();
@@ -243,6 +303,18 @@ public class BookingControllerTest {
         verify(bookingService).getBookingById(bookingId);
     }
 
+    @Test
+    void testViewBooking_matchingETag_shouldReturnNotModifiedWithoutLoadingBooking() throws Exception {
+        when(bookingService.getBookingETag(1L)).thenReturn(Optional.of("\"b-1-7\""));
+
+        mockMvc.perform(get("/api/bookings/view/{id}", 1L)
+                                .header("If-None-Match", "\"b-1-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"b-1-7\""));
+
+        verify(bookingService, times(0)).getBookingById(1L);
+    }
+
     @ParameterizedTest(name = "{index}: Invalid ID: {0} - should throw bad request exception")
     @ValueSource(strings = {"id", "-1"})
     void testViewBooking_InvalidBookingId_ShouldReturnBadRequest(String bookingId) throws Exception {
@@ -251,4 +323,139 @@ public class BookingControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Invalid ID. ID must be a positive integer."));
     }
+
+    @Test
+    void testBookRoom_sameIdempotencyKey_shouldReplayOriginalResult() throws Exception {
+        BookingRequest bookingRequest = BookingRequest.builder()
+                .startTime("09:30")
+                .endTime("10:00")
+                .numberOfPeople(5)
+                .build();
+        String body = new ObjectMapper().writeValueAsString(bookingRequest);
+
+        when(bookingService.bookRoom(any(BookingRequest.class)))
+                .thenReturn("Room 'Beauty' booked successfully for 5 people from 09:30 to 10:00.");
+
+        mockMvc.perform(post("/api/bookings/book")
+                                .header("Idempotency-Key", "replay-key")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        mockMvc.perform(post("/api/bookings/book")
+                                .header("Idempotency-Key", "replay-key")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().string("Room 'Beauty' booked successfully for 5 people from 09:30 to 10:00."));
+
+        verify(bookingService, times(1)).bookRoom(any(BookingRequest.class));
+    }
+
+    @Test
+    void testBookRoom_idempotencyKeyReusedForDifferentRequest_shouldReturnUnprocessableEntity() throws Exception {
+        when(bookingService.bookRoom(any(BookingRequest.class)))
+                .thenReturn("Room 'Beauty' booked successfully for 5 people from 09:30 to 10:00.");
+
+        mockMvc.perform(post("/api/bookings/book")
+                                .header("Idempotency-Key", "reused-key")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(new ObjectMapper().writeValueAsString(BookingRequest.builder()
+                                        .startTime("09:30")
+                                        .endTime("10:00")
+                                        .numberOfPeople(5)
+                                        .build())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/bookings/book")
+                                .header("Idempotency-Key", "reused-key")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(new ObjectMapper().writeValueAsString(AMAZE_1100_1200_REQUEST)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().string("Idempotency-Key reused-key was already used for a different request."));
+    }
+
+    @Test
+    void testCancelBookings_Success() throws Exception {
+        when(bookingService.cancelBookings(List.of(1L, 2L)))
+                .thenReturn(CancellationResult.builder().cancelled(List.of()).notFound(List.of(1L, 2L)).build());
+
+        mockMvc.perform(post("/api/bookings/cancel")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ids\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"cancelled\":[],\"notFound\":[1,2]}"));
+    }
+
+    @Test
+    void testCancelBookings_invalidId_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/bookings/cancel")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ids\":[1,-2]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid ID. ID must be a positive integer."));
+    }
+
+    @Test
+    void testCancelRoomBookings_unknownRoom_shouldReturnBadRequest() throws Exception {
+        when(bookingService.cancelRoomBookings("Unknown", "10:00", "11:00"))
+                .thenThrow(new RoomNotFoundException("Room 'Unknown' not found."));
+
+        mockMvc.perform(delete("/api/bookings/room/{roomName}", "Unknown")
+                                .param("startTime", "10:00")
+                                .param("endTime", "11:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Room 'Unknown' not found."));
+    }
+
+    @Test
+    void testExportBookings_streamsNdjson() throws Exception {
+        BookingSnapshot snapshot = new BookingSnapshot(conferenceRoomRepository.findAll(), 2);
+        snapshot.add(1L, 0, 44, 48, 3);
+        snapshot.add(2L, 1, 40, 42, 5);
+        when(bookingService.exportBookings(null, null, null)).thenReturn(snapshot);
+
+        MvcResult result = mockMvc.perform(get("/api/bookings/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String room0 = conferenceRoomRepository.findByIndex(0).getName();
+        String room1 = conferenceRoomRepository.findByIndex(1).getName();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"id\":1,\"room\":\"" + room0 + "\",\"startTime\":\"11:00\",\"endTime\":\"12:00\",\"numberOfPeople\":3}\n"
+                        + "{\"id\":2,\"room\":\"" + room1 + "\",\"startTime\":\"10:00\",\"endTime\":\"10:30\",\"numberOfPeople\":5}\n"));
+    }
+
+    @Test
+    void testExportBookings_unknownRoom_shouldReturnBadRequest() throws Exception {
+        when(bookingService.exportBookings("Unknown", null, null))
+                .thenThrow(new RoomNotFoundException("Room 'Unknown' not found."));
+
+        MvcResult result = mockMvc.perform(get("/api/bookings/export").param("room", "Unknown"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Room 'Unknown' not found."));
+    }
+
+    @Test
+    void testBookRoom_waitlisted_shouldReturnAccepted() throws Exception {
+        when(bookingService.bookRoom(any(BookingRequest.class)))
+                .thenThrow(new BookingWaitlistedException("All rooms are already booked during the requested time. "
+                                                                  + "The request is on the waitlist as booking 5.", 5L));
+
+        mockMvc.perform(post("/api/bookings/book")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"startTime\":\"11:00\",\"endTime\":\"12:00\",\"numberOfPeople\":3,\"waitlist\":true}"))
+                .andExpect(status().isAccepted())
+                .andExpect(content().string("All rooms are already booked during the requested time. "
+                                                    + "The request is on the waitlist as booking 5."));
+    }
 }
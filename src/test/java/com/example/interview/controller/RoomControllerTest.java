@@ -1,27 +1,40 @@
 package com.example.interview.controller;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import com.example.interview.dto.BookingRequest;
 import com.example.interview.model.ConferenceRoom;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.service.BookingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.interview.service.RoomService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -32,6 +45,18 @@ public class RoomControllerTest {
     @Mock
     private RoomService roomService;
 
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomService realRoomService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -138,4 +163,74 @@ public class RoomControllerTest {
                 .andExpect(jsonPath("$[3].name", is("Strive")))
                 .andExpect(jsonPath("$[3].capacity", is(20)));
     }
+
+    @Test
+    public void testAvailableRooms_etagChangesOnlyWhenBookingsChange() throws Exception {
+        String etag = mockMvc.perform(get("/api/rooms/available")
+                                              .param("startTime", "10:00")
+                                              .param("endTime", "11:00"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/rooms/available")
+                                .param("startTime", "10:00")
+                                .param("endTime", "11:00")
+                                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        try {
+            bookingService.bookRoom(BookingRequest.builder()
+                                            .startTime("10:00")
+                                            .endTime("11:00")
+                                            .numberOfPeople(3)
+                                            .build());
+
+            mockMvc.perform(get("/api/rooms/available")
+                                    .param("startTime", "10:00")
+                                    .param("endTime", "11:00")
+                                    .header("If-None-Match", etag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(3)))
+                    .andExpect(header().string("ETag", not(etag)));
+        } finally {
+            bookingRepository.clear();
+        }
+    }
+
+    @Test
+    public void testAvailableRooms_cachedFragmentsMatchSerializedRoomsAndGzipVariant() throws Exception {
+        byte[] expected = objectMapper.writeValueAsBytes(realRoomService.getAvailableRooms("10:00", "11:00"));
+
+        MvcResult plain = mockMvc.perform(get("/api/rooms/available")
+                                                  .param("startTime", "10:00")
+                                                  .param("endTime", "11:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn();
+        MvcResult gzipped = mockMvc.perform(get("/api/rooms/available")
+                                                    .param("startTime", "10:00")
+                                                    .param("endTime", "11:00")
+                                                    .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        assertArrayEquals(expected, plain.getResponse().getContentAsByteArray());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            assertArrayEquals(expected, in.readAllBytes());
+        }
+        assertNotEquals(plain.getResponse().getHeader("ETag"), gzipped.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    public void testAvailableRooms_reportsPhaseTimingsInServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/api/rooms/available")
+                                .param("startTime", "10:00")
+                                .param("endTime", "11:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(
+                        "validate;dur=\\d+\\.\\d{3}, scan;dur=\\d+\\.\\d{3}, "
+                                + "serialize;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}")));
+    }
 }
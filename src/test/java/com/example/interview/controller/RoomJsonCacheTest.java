@@ -0,0 +1,48 @@
+package com.example.interview.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import com.example.interview.config.ConferenceRoomConfig;
+import com.example.interview.config.RoomResponseConfig;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class RoomJsonCacheTest {
+
+    @Test
+    void gzipVariantsAreCachedForCatalogsBeyondSixtyThreeRooms() throws Exception {
+        List<ConferenceRoomConfig.ConferenceRoomProperties> properties = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ConferenceRoomConfig.ConferenceRoomProperties room = new ConferenceRoomConfig.ConferenceRoomProperties();
+            room.setName("Room " + i);
+            room.setCapacity(2 + i % 20);
+            properties.add(room);
+        }
+        ConferenceRoomConfig config = new ConferenceRoomConfig();
+        config.setRooms(properties);
+        ConferenceRoomRepository repository = new ConferenceRoomRepository(config);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        RoomJsonCache cache = new RoomJsonCache(objectMapper, repository, new RoomResponseConfig());
+        cache.render();
+
+        List<ConferenceRoom> rooms = repository.findAll();
+        List<ConferenceRoom> last = List.of(rooms.get(0), rooms.get(150), rooms.get(199));
+        List<ConferenceRoom> other = List.of(rooms.get(0), rooms.get(150), rooms.get(198));
+
+        byte[] gzipped = cache.gzip(last);
+        assertSame(gzipped, cache.gzip(new ArrayList<>(last)));
+        assertNotSame(gzipped, cache.gzip(other));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(last), in.readAllBytes());
+        }
+    }
+}
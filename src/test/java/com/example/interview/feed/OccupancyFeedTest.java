@@ -0,0 +1,97 @@
+package com.example.interview.feed;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.example.interview.dto.BookingRequest;
+import com.example.interview.model.Booking;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.service.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OccupancyFeedTest {
+
+    private static final Pattern BOOKED_ID = Pattern.compile("id:(\\S+)\nevent:booked\n");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ConferenceRoomRepository conferenceRoomRepository;
+
+    @AfterEach
+    public void tearDown() {
+        bookingRepository.clear();
+    }
+
+    @Test
+    public void testStream_pushesChangesAndResumesFromLastEventId() throws Exception {
+        MvcResult live = subscribe(null);
+        bookingService.bookRoom(BookingRequest.builder()
+                                        .startTime("11:00")
+                                        .endTime("12:00")
+                                        .numberOfPeople(3)
+                                        .build());
+        Booking booking = bookingRepository.findByRoom(conferenceRoomRepository.findByName("Amaze").orElseThrow()).get(0);
+
+        String content = awaitContent(live, "event:booked");
+        assertTrue(content.startsWith("id:"), content);
+        assertTrue(content.contains("event:sync\n"), content);
+        assertTrue(content.contains("data:{\"room\":\"Amaze\",\"startTime\":\"11:00\",\"endTime\":\"12:00\",\"bookingId\":"
+                                            + booking.getId() + "}"), content);
+
+        Matcher matcher = BOOKED_ID.matcher(content);
+        assertTrue(matcher.find(), content);
+        bookingService.deleteBooking(booking.getId());
+
+        String resumed = awaitContent(subscribe(matcher.group(1)), "event:released");
+        assertFalse(resumed.contains("event:booked"), resumed);
+        assertFalse(resumed.contains("event:sync"), resumed);
+    }
+
+    @Test
+    public void testStream_unknownLastEventIdGetsReset() throws Exception {
+        String content = awaitContent(subscribe("some-earlier-process-42"), "event:reset");
+
+        assertFalse(content.contains("event:sync"), content);
+    }
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        return mockMvc.perform(lastEventId == null
+                                       ? get("/api/rooms/events")
+                                       : get("/api/rooms/events").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+}
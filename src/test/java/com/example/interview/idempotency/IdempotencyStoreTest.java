@@ -0,0 +1,172 @@
+package com.example.interview.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.interview.config.IdempotencyConfig;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyStoreTest {
+
+    @Test
+    public void testExecute_repeatedKey_returnsStoredResult() {
+        IdempotencyStore store = new IdempotencyStore(new IdempotencyConfig());
+        AtomicInteger calls = new AtomicInteger();
+
+        IdempotencyStore.Outcome<Integer> first = store.execute("key", "request", calls::incrementAndGet, r -> true);
+        IdempotencyStore.Outcome<Integer> second = store.execute("key", "request", calls::incrementAndGet, r -> true);
+
+        assertFalse(first.isReplayed());
+        assertTrue(second.isReplayed());
+        assertEquals(1, second.getValue());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testExecute_concurrentDuplicates_areCoalesced() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(new IdempotencyConfig());
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            Future<IdempotencyStore.Outcome<Integer>> owner = executor.submit(() -> store.execute("key", "request", () -> {
+                started.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }, r -> true));
+            started.await();
+
+            List<Future<IdempotencyStore.Outcome<Integer>>> duplicates = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                duplicates.add(executor.submit(() -> store.execute("key", "request", calls::incrementAndGet, r -> true)));
+            }
+            release.countDown();
+
+            assertFalse(owner.get(5, TimeUnit.SECONDS).isReplayed());
+            for (Future<IdempotencyStore.Outcome<Integer>> duplicate : duplicates) {
+                assertEquals(1, duplicate.get(5, TimeUnit.SECONDS).getValue());
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecute_nonCacheableResult_isRetried() {
+        IdempotencyStore store = new IdempotencyStore(new IdempotencyConfig());
+        AtomicInteger calls = new AtomicInteger();
+
+        store.execute("key", "request", calls::incrementAndGet, r -> false);
+        IdempotencyStore.Outcome<Integer> retry = store.execute("key", "request", calls::incrementAndGet, r -> true);
+
+        assertFalse(retry.isReplayed());
+        assertEquals(2, retry.getValue());
+    }
+
+    @Test
+    public void testExecute_failedAction_isRetried() {
+        IdempotencyStore store = new IdempotencyStore(new IdempotencyConfig());
+
+        assertThrows(IllegalStateException.class, () -> store.execute("key", "request", () -> {
+            throw new IllegalStateException("boom");
+        }, r -> true));
+
+        assertFalse(store.execute("key", "request", () -> 1, r -> true).isReplayed());
+    }
+
+    @Test
+    public void testExecute_differentRequestForSameKey_shouldThrowException() {
+        IdempotencyStore store = new IdempotencyStore(new IdempotencyConfig());
+        store.execute("key", "request", () -> 1, r -> true);
+
+        IdempotencyKeyReuseException exception = assertThrows(
+                IdempotencyKeyReuseException.class,
+                () -> store.execute("key", "other request", () -> 2, r -> true)
+        );
+
+        assertEquals("Idempotency-Key key was already used for a different request.", exception.getMessage());
+    }
+
+    @Test
+    public void testExecute_entriesExpireAndAreBounded() throws InterruptedException {
+        IdempotencyConfig config = new IdempotencyConfig();
+        config.setMaxEntries(2);
+        config.setTtl(Duration.ofMillis(50));
+        IdempotencyStore store = new IdempotencyStore(config);
+
+        store.execute("a", "request", () -> 1, r -> true);
+        store.execute("b", "request", () -> 1, r -> true);
+        store.execute("c", "request", () -> 1, r -> true);
+        assertEquals(2, store.size());
+        assertFalse(store.execute("a", "request", () -> 2, r -> true).isReplayed());
+
+        Thread.sleep(100);
+        assertFalse(store.execute("b", "request", () -> 2, r -> true).isReplayed());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testExecute_inFlightEntriesAreNeverEvicted() throws Exception {
+        IdempotencyConfig config = new IdempotencyConfig();
+        config.setMaxEntries(1);
+        config.setTtl(Duration.ofMillis(1));
+        config.setWaitTimeout(Duration.ofMillis(50));
+        IdempotencyStore store = new IdempotencyStore(config);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<IdempotencyStore.Outcome<Integer>> owner = executor.submit(() -> store.execute("a", "request", () -> {
+                started.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }, r -> true));
+            started.await();
+            Thread.sleep(10);
+
+            assertThrows(IdempotencyStoreFullException.class, () -> store.execute("b", "request", () -> 1, r -> true));
+            assertThrows(IdempotencyKeyInProgressException.class,
+                         () -> store.execute("a", "request", calls::incrementAndGet, r -> true));
+            release.countDown();
+            owner.get(5, TimeUnit.SECONDS);
+
+            assertEquals(1, calls.get());
+            assertFalse(store.execute("b", "request", () -> 1, r -> true).isReplayed());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecute_invalidKey_shouldThrowException() {
+        IdempotencyStore store = new IdempotencyStore(new IdempotencyConfig());
+
+        assertThrows(IllegalArgumentException.class, () -> store.execute("", "request", () -> 1, r -> true));
+        assertThrows(IllegalArgumentException.class, () -> store.execute("k".repeat(256), "request", () -> 1, r -> true));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.interview.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.interview.model.ConferenceRoom;
+import org.junit.jupiter.api.Test;
+
+class BookingSnapshotTest {
+
+    @Test
+    public void testRoom_indexesBeyondShortRangeResolve() {
+        List<ConferenceRoom> rooms = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            rooms.add(ConferenceRoom.builder().name("Room " + i).capacity(2).maintenanceSchedule(List.of()).build());
+        }
+        BookingSnapshot snapshot = new BookingSnapshot(rooms, 1);
+
+        snapshot.add(7L, 39_999, 44, 48, 2);
+
+        assertEquals(1, snapshot.size());
+        assertSame(rooms.get(39_999), snapshot.room(0));
+        assertEquals(2, snapshot.numberOfPeople(0));
+    }
+}
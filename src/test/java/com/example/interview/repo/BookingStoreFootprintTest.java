@@ -0,0 +1,76 @@
+package com.example.interview.repo;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.interview.model.Booking;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.utils.TimeCodec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the retained heap of the booking object graph with the primitive {@link BookingStore}.
+ * Run with {@code mvn test -Pbenchmark}; size with {@code -Dbenchmark.bookings=N}.
+ */
+@Tag("benchmark")
+class BookingStoreFootprintTest {
+
+    private static final int BOOKINGS = Integer.getInteger("benchmark.bookings", 1_000_000);
+
+    @Test
+    public void testFootprint_storeUsesFewerBytesPerBookingThanObjectGraph() {
+        ConferenceRoom[] rooms = new ConferenceRoom[20];
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] = new ConferenceRoom("Room " + i, 2 + i, List.of());
+        }
+
+        long baseline = usedHeap();
+        List<Booking> bookings = new ArrayList<>(BOOKINGS);
+        for (int i = 0; i < BOOKINGS; i++) {
+            int start = (i % 80) * TimeCodec.MINUTES_PER_SLOT;
+            bookings.add(Booking.builder()
+                                 .id((long) i + 1)
+                                 .room(rooms[i % rooms.length])
+                                 .startTime(TimeCodec.toLocalTime(start))
+                                 .endTime(TimeCodec.toLocalTime(start + 45))
+                                 .numberOfPeople(2 + i % 18)
+                                 .build());
+        }
+        double objectBytes = (double) (usedHeap() - baseline) / BOOKINGS;
+        Reference.reachabilityFence(bookings);
+        bookings = null;
+
+        baseline = usedHeap();
+        HeapBookingStore store = new HeapBookingStore();
+        for (int i = 0; i < BOOKINGS; i++) {
+            int start = i % 80;
+            store.put((long) i + 1, i % rooms.length, start, start + 3, 2 + i % 18);
+        }
+        double storeBytes = (double) (usedHeap() - baseline) / BOOKINGS;
+        double accountedBytes = (double) store.footprintBytes() / BOOKINGS;
+        Reference.reachabilityFence(store);
+
+        System.out.printf("Booking footprint for %,d bookings: object graph %.1f B/booking, "
+                                  + "primitive store %.1f B/booking (%.1f B/booking allocated capacity)%n",
+                          BOOKINGS, objectBytes, storeBytes, accountedBytes);
+        assertTrue(storeBytes < objectBytes / 2,
+                   "Expected the primitive store to use less than half the memory of the object graph");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.interview.repo;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Loads the same bookings into the heap and the memory-mapped store and compares retained heap and GC pauses under
+ * an allocation-heavy workload. Run with {@code mvn test -Pbenchmark}; size with {@code -Dbenchmark.gc.bookings=N}.
+ */
+@Tag("benchmark")
+class BookingStoreGcBenchmarkTest {
+
+    private static final int BOOKINGS = Integer.getInteger("benchmark.gc.bookings", 10_000_000);
+    private static final int CHURN_ROUNDS = Integer.getInteger("benchmark.gc.rounds", 2_000);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGcPauses_heapVersusMappedStore() {
+        Result heap = measure("heap", HeapBookingStore::new);
+        Result mapped = measure("mapped", () -> new MappedBookingStore(tempDir.resolve("bookings.dat"), 1 << 20, 1 << 24,
+                                                                       index -> "Room " + index,
+                                                                       name -> Integer.parseInt(name.substring(5))));
+
+        assertTrue(mapped.retainedBytes < heap.retainedBytes,
+                   "Expected the mapped store to retain less heap than the heap store");
+    }
+
+    private Result measure(String name, Supplier<BookingStore> factory) {
+        long baseline = usedHeapAfterGc();
+        try (BookingStore store = factory.get()) {
+            for (int i = 0; i < BOOKINGS; i++) {
+                int start = i % 80;
+                store.put(i + 1L, i % 50, start, start + 2 + i % 14, 2 + i % 18);
+            }
+            Result result = new Result();
+            result.retainedBytes = usedHeapAfterGc() - baseline;
+
+            long fullGcStart = System.nanoTime();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            result.fullGcMillis = (System.nanoTime() - fullGcStart) / 3 / 1_000_000.0;
+
+            long collectionsBefore = collectionCount();
+            long collectionMillisBefore = collectionMillis();
+            churn();
+            result.collections = collectionCount() - collectionsBefore;
+            result.collectionMillis = collectionMillis() - collectionMillisBefore;
+
+            System.out.printf("%-6s store, %,d bookings: retained heap %,d MB, explicit full GC %.1f ms, "
+                                      + "%d collections taking %d ms under churn (%.2f ms average pause)%n",
+                              name, store.size(), result.retainedBytes >> 20, result.fullGcMillis,
+                              result.collections, result.collectionMillis,
+                              (double) result.collectionMillis / Math.max(1, result.collections));
+            Reference.reachabilityFence(store);
+            return result;
+        }
+    }
+
+    // Simulates request traffic: mostly short-lived garbage plus a window of objects that survive a few collections.
+    private static void churn() {
+        Deque<byte[]> survivors = new ArrayDeque<>();
+        for (int round = 0; round < CHURN_ROUNDS; round++) {
+            for (int i = 0; i < 2_000; i++) {
+                byte[] garbage = new byte[1024];
+                garbage[i % garbage.length] = (byte) i;
+            }
+            survivors.addLast(new byte[64 * 1024]);
+            if (survivors.size() > 256) {
+                survivors.removeFirst();
+            }
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long collectionCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long collectionMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    private static class Result {
+        long retainedBytes;
+        double fullGcMillis;
+        long collections;
+        long collectionMillis;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.interview.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HeapBookingStoreTest {
+
+    @Test
+    public void testPut_storesColumnsAndLooksUpById() {
+        HeapBookingStore store = new HeapBookingStore();
+
+        int row = store.put(42L, 3, 44, 48, 12);
+
+        assertEquals(row, store.rowOf(42L));
+        assertEquals(42L, store.id(row));
+        assertEquals(3, store.room(row));
+        assertEquals(44, store.startSlot(row));
+        assertEquals(48, store.endSlot(row));
+        assertEquals(12, store.numberOfPeople(row));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testPut_existingId_overwritesRow() {
+        HeapBookingStore store = new HeapBookingStore();
+        int row = store.put(1L, 0, 40, 44, 2);
+
+        assertEquals(row, store.put(1L, 2, 50, 52, 9));
+        assertEquals(2, store.room(row));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testRemove_rowIsRecycled() {
+        HeapBookingStore store = new HeapBookingStore();
+        store.put(1L, 0, 40, 44, 2);
+        int freed = store.put(2L, 1, 40, 44, 5);
+
+        assertTrue(store.remove(2L));
+        assertFalse(store.isLive(freed));
+        assertEquals(BookingStore.NO_ROW, store.rowOf(2L));
+        assertFalse(store.remove(2L));
+
+        assertEquals(freed, store.put(3L, 1, 60, 64, 5));
+        assertEquals(2, store.highWaterMark());
+    }
+
+    @Test
+    public void testManyBookings_growAndRemoveKeepLookupsConsistent() {
+        HeapBookingStore store = new HeapBookingStore();
+        for (long id = 1; id <= 100_000; id++) {
+            store.put(id, (int) (id % 7), 40, 44, 2);
+        }
+        for (long id = 1; id <= 100_000; id += 2) {
+            assertTrue(store.remove(id));
+        }
+
+        assertEquals(50_000, store.size());
+        for (long id = 1; id <= 100_000; id++) {
+            int row = store.rowOf(id);
+            if (id % 2 == 1) {
+                assertEquals(BookingStore.NO_ROW, row);
+            } else {
+                assertEquals(id, store.id(row));
+                assertEquals((int) (id % 7), store.room(row));
+            }
+        }
+    }
+
+    @Test
+    public void testClear() {
+        HeapBookingStore store = new HeapBookingStore();
+        store.put(1L, 0, 40, 44, 2);
+
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertEquals(0, store.highWaterMark());
+        assertEquals(BookingStore.NO_ROW, store.rowOf(1L));
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.interview.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedBookingStoreTest {
+
+    private static final List<String> ROOMS = List.of("Amaze", "Beauty", "Inspire", "Strive");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPut_recordIsAddressedById() {
+        try (MappedBookingStore store = open(tempDir.resolve("bookings.dat"), 8, ROOMS)) {
+            int row = store.put(5L, 2, 44, 48, 7);
+
+            assertEquals(4, row);
+            assertEquals(row, store.rowOf(5L));
+            assertEquals(5L, store.id(row));
+            assertEquals(2, store.room(row));
+            assertEquals(44, store.startSlot(row));
+            assertEquals(48, store.endSlot(row));
+            assertEquals(7, store.numberOfPeople(row));
+            assertEquals(1, store.size());
+            assertEquals(5, store.highWaterMark());
+            assertEquals(5L, store.maxId());
+            assertEquals(BookingStore.NO_ROW, store.rowOf(3L));
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        try (MappedBookingStore store = open(tempDir.resolve("bookings.dat"), 8, ROOMS)) {
+            store.put(1L, 0, 40, 44, 2);
+
+            assertTrue(store.remove(1L));
+            assertFalse(store.remove(1L));
+            assertEquals(BookingStore.NO_ROW, store.rowOf(1L));
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    public void testReopen_bookingsSurviveAcrossSegments() {
+        Path file = tempDir.resolve("bookings.dat");
+        try (MappedBookingStore store = open(file, 8, ROOMS)) {
+            for (long id = 1; id <= 50; id++) {
+                store.put(id, (int) (id % 4), 40, 42 + (int) (id % 20), 2 + (int) (id % 18));
+            }
+            store.remove(10L);
+        }
+
+        try (MappedBookingStore store = open(file, 8, ROOMS)) {
+            assertEquals(49, store.size());
+            assertEquals(50L, store.maxId());
+            assertEquals(BookingStore.NO_ROW, store.rowOf(10L));
+            for (long id = 1; id <= 50; id++) {
+                if (id == 10L) {
+                    continue;
+                }
+                int row = store.rowOf(id);
+                assertEquals((int) (id % 4), store.room(row));
+                assertEquals(42 + (int) (id % 20), store.endSlot(row));
+                assertEquals(2 + (int) (id % 18), store.numberOfPeople(row));
+            }
+        }
+    }
+
+    @Test
+    public void testClear_persistsEmptyStore() {
+        Path file = tempDir.resolve("bookings.dat");
+        try (MappedBookingStore store = open(file, 8, ROOMS)) {
+            store.put(1L, 0, 40, 44, 2);
+            store.put(2L, 0, 44, 48, 2);
+            store.clear();
+        }
+
+        try (MappedBookingStore store = open(file, 8, ROOMS)) {
+            assertEquals(0, store.size());
+            assertEquals(0, store.highWaterMark());
+        }
+    }
+
+    @Test
+    public void testOpen_segmentSizeMismatch_shouldThrowException() {
+        Path file = tempDir.resolve("bookings.dat");
+        open(file, 8, ROOMS).close();
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> open(file, 16, ROOMS)
+        );
+
+        assertEquals("File " + file + " was created with 8 records per segment, but 16 is configured",
+                     exception.getMessage());
+    }
+
+    @Test
+    public void testPut_idBeyondMaxRecords_shouldThrowException() {
+        try (MappedBookingStore store = open(tempDir.resolve("bookings.dat"), 8, ROOMS)) {
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> store.put(65L, 0, 40, 44, 2)
+            );
+
+            assertEquals("Booking id 65 cannot be addressed in the booking file.", exception.getMessage());
+            assertEquals(64L, store.maxAddressableId());
+            assertEquals(0, store.highWaterMark());
+        }
+    }
+
+    @Test
+    public void testReopen_reorderedCatalogKeepsBookingsInTheirRooms() {
+        Path file = tempDir.resolve("bookings.dat");
+        try (MappedBookingStore store = open(file, 8, ROOMS)) {
+            store.put(1L, 0, 40, 44, 2);
+            store.put(2L, 3, 40, 44, 2);
+        }
+
+        List<String> reordered = List.of("Lobby", "Strive", "Amaze", "Beauty", "Inspire");
+        try (MappedBookingStore store = open(file, 8, reordered)) {
+            assertEquals("Amaze", reordered.get(store.room(store.rowOf(1L))));
+            assertEquals("Strive", reordered.get(store.room(store.rowOf(2L))));
+
+            store.put(3L, 0, 40, 44, 2);
+        }
+
+        try (MappedBookingStore store = open(file, 8, List.of("Strive", "Lobby", "Amaze"))) {
+            assertEquals(2, store.room(store.rowOf(1L)));
+            assertEquals(0, store.room(store.rowOf(2L)));
+            assertEquals(1, store.room(store.rowOf(3L)));
+        }
+    }
+
+    @Test
+    public void testOpen_bookingForRemovedRoom_shouldThrowException() {
+        Path file = tempDir.resolve("bookings.dat");
+        try (MappedBookingStore store = open(file, 8, ROOMS)) {
+            store.put(1L, 0, 40, 44, 2);
+            store.put(2L, 2, 40, 44, 2);
+            store.remove(1L);
+        }
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> open(file, 8, List.of("Amaze", "Beauty"))
+        );
+
+        assertEquals("Booking 2 in " + file + " is for room 'Inspire', which is not in the catalog",
+                     exception.getMessage());
+    }
+
+    private static MappedBookingStore open(Path file, int segmentRecords, List<String> rooms) {
+        return new MappedBookingStore(file, segmentRecords, 64, rooms::get, rooms::indexOf);
+    }
+}
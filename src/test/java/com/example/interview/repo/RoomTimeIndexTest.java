@@ -0,0 +1,87 @@
+package com.example.interview.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RoomTimeIndexTest {
+
+    @Test
+    public void testForEach_rowsAreOrderedByStartSlot() {
+        RoomTimeIndex index = new RoomTimeIndex();
+        index.add(1, 60, 64, 0);
+        index.add(1, 40, 44, 1);
+        index.add(1, 50, 52, 2);
+        index.add(0, 10, 12, 3);
+
+        assertEquals(List.of(1, 2, 0), rows(index, 1));
+        assertEquals(List.of(3), rows(index, 0));
+        assertEquals(List.of(), rows(index, 7));
+    }
+
+    @Test
+    public void testForEachCandidate_includesLongBookingsStartingBeforeRange() {
+        RoomTimeIndex index = new RoomTimeIndex();
+        index.add(0, 36, 56, 0);
+        index.add(0, 58, 60, 1);
+        index.add(0, 70, 72, 2);
+
+        List<Integer> candidates = new ArrayList<>();
+        index.forEachCandidate(0, 50, 60, candidates::add);
+
+        assertEquals(List.of(0, 1), candidates);
+    }
+
+    @Test
+    public void testRemove() {
+        RoomTimeIndex index = new RoomTimeIndex();
+        index.add(0, 40, 44, 0);
+        index.add(0, 44, 48, 1);
+
+        index.remove(0, 40, 0);
+        index.remove(0, 40, 5);
+
+        assertEquals(List.of(1), rows(index, 0));
+        assertEquals(1, index.size(0));
+    }
+
+    @Test
+    public void testAnyCandidate_stopsAtFirstMatch() {
+        RoomTimeIndex index = new RoomTimeIndex();
+        index.add(0, 40, 44, 0);
+        index.add(0, 44, 48, 1);
+        List<Integer> visited = new ArrayList<>();
+
+        assertTrue(index.anyCandidate(0, 40, 48, row -> visited.add(row)));
+        assertEquals(List.of(0), visited);
+        assertFalse(index.anyCandidate(-1, 40, 48, row -> true));
+    }
+
+    @Test
+    public void testSeekCandidate_resumesAfterEntry() {
+        RoomTimeIndex index = new RoomTimeIndex();
+        index.add(0, 40, 44, 0);
+        index.add(0, 44, 48, 1);
+        index.add(0, 48, 52, 2);
+        List<Integer> visited = new ArrayList<>();
+
+        long first = index.seekCandidate(0, 0, 96, -1, key -> true);
+        long stopped = index.seekCandidate(0, 0, 96, first, key -> visited.add(RoomTimeIndex.row(key)) && visited.size() == 2);
+
+        assertEquals(0, RoomTimeIndex.row(first));
+        assertEquals(List.of(1, 2), visited);
+        assertEquals(2, RoomTimeIndex.row(stopped));
+        assertEquals(-1, index.seekCandidate(0, 0, 96, stopped, key -> true));
+    }
+
+    private static List<Integer> rows(RoomTimeIndex index, int room) {
+        List<Integer> rows = new ArrayList<>();
+        index.forEach(room, rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.interview.repo;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+class SlotOccupancyTest {
+
+    @Test
+    public void testOccupied_keepsRoomUntilLastCoveringBookingIsRemoved() {
+        SlotOccupancy occupancy = new SlotOccupancy();
+        occupancy.add(3, 44, 48);
+        occupancy.add(3, 46, 50);
+        occupancy.add(70, 48, 52);
+
+        assertEquals(bits(3), occupancy.occupied(40, 48));
+        assertEquals(bits(3, 70), occupancy.occupied(47, 49));
+
+        occupancy.remove(3, 44, 48);
+        assertEquals(bits(3), occupancy.occupied(46, 47));
+        assertEquals(bits(), occupancy.occupied(44, 46));
+
+        occupancy.remove(3, 46, 50);
+        assertEquals(bits(70), occupancy.occupied(0, 96));
+    }
+
+    @Test
+    public void testFreeRooms_countsActiveRoomsByCapacity() {
+        SlotOccupancy occupancy = new SlotOccupancy();
+        occupancy.add(0, 44, 48);
+        occupancy.add(2, 44, 48);
+        // Room 2 is retired, room 1 is under maintenance at slot 45
+        BitSet[] maintenance = {new BitSet(), bits(45), new BitSet()};
+        occupancy.bind(1, new int[] {3, 7, 0}, maintenance);
+        occupancy.add(0, 46, 50);
+
+        FreeRoomCounts counts = occupancy.freeRooms(44, 50);
+
+        assertArrayEquals(new int[] {3, 7}, counts.getCapacities());
+        assertArrayEquals(new int[] {1, 1, 1, 1, 1, 1}, counts.getBooked());
+        assertArrayEquals(new int[] {1, 1}, counts.getFree()[0]);
+        assertArrayEquals(new int[] {0, 0}, counts.getFree()[1]);
+        assertFalse(occupancy.anyFullyBooked(44, 50));
+
+        occupancy.add(1, 47, 48);
+        assertTrue(occupancy.anyFullyBooked(44, 50));
+        assertFalse(occupancy.anyFullyBooked(48, 50));
+
+        occupancy.remove(0, 44, 48);
+        assertArrayEquals(new int[] {2, 1}, occupancy.freeRooms(44, 45).getFree()[0]);
+        assertArrayEquals(new int[] {0, 0}, occupancy.freeRooms(47, 48).getFree()[0]);
+    }
+
+    private static BitSet bits(int... rooms) {
+        BitSet bits = new BitSet();
+        for (int room : rooms) {
+            bits.set(room);
+        }
+        return bits;
+    }
+}
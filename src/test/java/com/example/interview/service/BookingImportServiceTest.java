@@ -0,0 +1,130 @@
+package com.example.interview.service;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.example.interview.config.ImportConfig;
+import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.ImportResult;
+import com.example.interview.model.Booking;
+import com.example.interview.repo.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class BookingImportServiceTest {
+
+    @Autowired
+    private BookingImportService bookingImportService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ImportConfig importConfig;
+
+    @TempDir
+    Path importDirectory;
+
+    private String originalDirectory;
+
+    @BeforeEach
+    public void setUp() {
+        originalDirectory = importConfig.getDirectory();
+        importConfig.setDirectory(importDirectory.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        importConfig.setDirectory(originalDirectory);
+        bookingRepository.clear();
+    }
+
+    @Test
+    public void testImportCsv_keepsIdsAndReportsLineErrors() throws IOException {
+        write("bookings.csv",
+              "id,room,startTime,endTime,numberOfPeople",
+              "100,Amaze,11:00,12:00,3",
+              "101,Amaze,11:30,12:30,3",
+              "102,Beauty,08:45,09:30,5",
+              "103,Inspire,10:00,11:00,13",
+              "",
+              "100,Strive,14:00,15:00,10",
+              "104,Strive,14:00,15:00,not-a-number");
+
+        ImportResult result = bookingImportService.importBookings("bookings.csv", null);
+
+        assertEquals(6, result.getLines());
+        assertEquals(1, result.getImported());
+        assertEquals(5, result.getRejected());
+        assertEquals(List.of(3, 4, 5, 7, 8), result.getErrors().stream().map(ImportResult.LineError::getLine).toList());
+        assertEquals("Room 'Amaze' is already booked during the requested time.", result.getErrors().get(0).getMessage());
+        assertTrue(result.getErrors().get(1).getMessage().startsWith("The requested time overlaps with the following maintenance windows"));
+        assertEquals("Room 'Inspire' has a capacity of 12 people.", result.getErrors().get(2).getMessage());
+        assertEquals("Booking with ID 100 already exists.", result.getErrors().get(3).getMessage());
+        assertEquals("Number of people must be an integer.", result.getErrors().get(4).getMessage());
+
+        Booking imported = bookingRepository.findById(100L).orElseThrow();
+        assertEquals(LocalTime.of(11, 0), imported.getStartTime());
+        assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    public void testImportNdjson_newBookingsDoNotReuseImportedIds() throws IOException {
+        write("bookings.ndjson",
+              "{\"id\":500,\"room\":\"Strive\",\"startTime\":\"14:00\",\"endTime\":\"15:00\",\"numberOfPeople\":10}",
+              "{\"id\":501,\"room\":\"Strive\"}",
+              "{not json");
+
+        ImportResult result = bookingImportService.importBookings("bookings.ndjson", null);
+        bookingService.bookRoom(BookingRequest.builder().startTime("14:00").endTime("15:00").numberOfPeople(10).build());
+
+        assertEquals(1, result.getImported());
+        assertEquals("Missing field 'startTime'.", result.getErrors().get(0).getMessage());
+        assertEquals("Malformed JSON.", result.getErrors().get(1).getMessage());
+        assertTrue(bookingRepository.findById(501L).isPresent());
+        assertEquals(2, bookingRepository.count());
+    }
+
+    @Test
+    public void testImportCsv_rejectedIdsDoNotAdvanceTheIdGenerator() throws IOException {
+        write("bookings.csv",
+              "600,Strive,14:00,15:00,10",
+              "900000,Strive,14:30,15:30,10");
+
+        ImportResult result = bookingImportService.importBookings("bookings.csv", null);
+        bookingService.bookRoom(BookingRequest.builder().startTime("16:00").endTime("17:00").numberOfPeople(10).build());
+
+        assertEquals(1, result.getImported());
+        assertTrue(bookingRepository.findById(601L).isPresent());
+        assertTrue(bookingRepository.maxId() < 900000L);
+    }
+
+    @Test
+    public void testImport_pathOutsideImportDirectory_shouldThrowIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> bookingImportService.importBookings("../bookings.csv", null)
+        );
+
+        assertEquals("Import file must be inside the import directory.", exception.getMessage());
+    }
+
+    private void write(String name, String... lines) throws IOException {
+        Files.write(importDirectory.resolve(name), List.of(lines));
+    }
+}
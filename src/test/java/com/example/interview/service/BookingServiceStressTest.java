@@ -0,0 +1,320 @@
+package com.example.interview.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.RecurringBookingRequest;
+import com.example.interview.exception.AllRoomsBookedException;
+import com.example.interview.exception.BookingNotFoundException;
+import com.example.interview.exception.MaintenanceTimeException;
+import com.example.interview.exception.NoRoomAvailableException;
+import com.example.interview.model.Booking;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.model.RecurringBooking;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.repo.RecurringBookingRepository;
+import com.example.interview.utils.TimeCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Books and cancels overlapping intervals from many threads and checks the invariants after each run: no two bookings
+ * of a room overlap, none exceeds its room or overlaps maintenance, ids are unique and the repository holds exactly the
+ * bookings that were made and not cancelled. Also races one-off bookings against recurring rules for the same window
+ * and checks that none overlaps today's occurrence, and deletes each booking from several threads at once. Prints the
+ * throughput per thread count. Scale with {@code -Dstress.threads=1,2,4,8,16} and {@code -Dstress.operations=N}.
+ */
+@SpringBootTest
+// Thousands of bookings move the shared id generator along; later test classes get a fresh context
+@DirtiesContext
+class BookingServiceStressTest {
+
+    private static final int[] THREAD_COUNTS = Arrays.stream(System.getProperty("stress.threads", "1,2,4,8").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final int OPERATIONS = Integer.getInteger("stress.operations", 4_000);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private RecurringBookingService recurringBookingService;
+
+    @Autowired
+    private RecurringBookingRepository recurringBookingRepository;
+
+    @Autowired
+    private Clock clock;
+
+    @AfterEach
+    public void tearDown() {
+        bookingRepository.clear();
+        recurringBookingRepository.clear();
+    }
+
+    @Test
+    public void testConcurrentBookingAndCancellation_keepsInvariants() throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            bookingRepository.clear();
+            Run run = run(threads);
+
+            assertInvariants(run);
+            System.out.printf("%2d threads: %,8.0f operations/s (%d booked, %d cancelled, %d rejected)%n",
+                              threads, OPERATIONS * 1e9 / run.elapsedNanos, run.booked.get(), run.cancelled.get(),
+                              run.rejected.get());
+        }
+    }
+
+    @Test
+    public void testConcurrentRecurringAndOneOffBookings_neverOverlapToday() throws Exception {
+        int threads = Math.max(2, Arrays.stream(THREAD_COUNTS).max().orElse(2));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // One contended request per thread and round, half of them recurring rules that also occur today
+            for (int round = 0; round < 300; round++) {
+                bookingRepository.clear();
+                recurringBookingRepository.clear();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> workers = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    boolean recurring = t % 2 == 0;
+                    workers.add(executor.submit(() -> {
+                        start.await();
+                        bookSameWindow(recurring);
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> worker : workers) {
+                    worker.get();
+                }
+                assertNoOneOffOverlapsRecurringToday();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentDeletesOfTheSameBooking_exactlyOneSucceeds() throws Exception {
+        int threads = Math.max(2, Arrays.stream(THREAD_COUNTS).max().orElse(2));
+        List<Long> ids = new ArrayList<>();
+        for (int slot = 32; slot < 72; slot += 2) {
+            for (int people : new int[] {2, 7, 12, 20}) {
+                try {
+                    bookingService.bookRoom(BookingRequest.builder()
+                                                    .startTime(TimeCodec.format(TimeCodec.slotToMinute(slot)))
+                                                    .endTime(TimeCodec.format(TimeCodec.slotToMinute(slot + 2)))
+                                                    .numberOfPeople(people)
+                                                    .build());
+                } catch (AllRoomsBookedException | NoRoomAvailableException | MaintenanceTimeException e) {
+                    // Slots next to maintenance windows hold fewer bookings
+                }
+            }
+        }
+        for (ConferenceRoom room : conferenceRoomRepository.findAll()) {
+            bookingRepository.findByRoom(room).forEach(booking -> ids.add(booking.getId()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Long id : ids) {
+                AtomicInteger deleted = new AtomicInteger();
+                AtomicInteger notFound = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> workers = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    workers.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            bookingService.deleteBooking(id);
+                            deleted.incrementAndGet();
+                        } catch (BookingNotFoundException e) {
+                            notFound.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> worker : workers) {
+                    worker.get();
+                }
+                assertEquals(1, deleted.get(), "Deletes of booking " + id + " that succeeded");
+                assertEquals(threads - 1, notFound.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(0, bookingRepository.count());
+    }
+
+    private void bookSameWindow(boolean recurring) {
+        String startTime = TimeCodec.format(TimeCodec.slotToMinute(40));
+        String endTime = TimeCodec.format(TimeCodec.slotToMinute(42));
+        try {
+            if (recurring) {
+                recurringBookingService.createRecurringBooking(RecurringBookingRequest.builder()
+                                                                       .startTime(startTime)
+                                                                       .endTime(endTime)
+                                                                       .numberOfPeople(2)
+                                                                       .build());
+            } else {
+                bookingService.bookRoom(BookingRequest.builder()
+                                                .startTime(startTime)
+                                                .endTime(endTime)
+                                                .numberOfPeople(2)
+                                                .build());
+            }
+        } catch (AllRoomsBookedException | NoRoomAvailableException | MaintenanceTimeException e) {
+            // Expected once the window fills up
+        }
+    }
+
+    private void assertNoOneOffOverlapsRecurringToday() {
+        LocalDate today = LocalDate.now(clock);
+        for (ConferenceRoom room : conferenceRoomRepository.findAll()) {
+            List<RecurringBooking> occurrences = recurringBookingRepository.findOccurrences(room, today);
+            for (Booking booking : bookingRepository.findByRoom(room)) {
+                for (RecurringBooking occurrence : occurrences) {
+                    assertTrue(!booking.getStartTime().isBefore(occurrence.getEndTime())
+                                       || !booking.getEndTime().isAfter(occurrence.getStartTime()),
+                               "Booking overlaps a recurring occurrence in " + room.getName() + ": " + booking
+                                       + " and " + occurrence);
+                }
+            }
+        }
+    }
+
+    private Run run(int threads) throws Exception {
+        Run run = new Run();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = new SplittableRandom(31L * threads + t);
+            int operations = OPERATIONS / threads + (t < OPERATIONS % threads ? 1 : 0);
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < operations; i++) {
+                    operate(run, random);
+                }
+                return null;
+            }));
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        run.elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+        return run;
+    }
+
+    private void operate(Run run, SplittableRandom random) {
+        Long toCancel = random.nextInt(4) == 0 ? run.candidates.poll() : null;
+        if (toCancel != null) {
+            try {
+                bookingService.deleteBooking(toCancel);
+                run.cancelled.incrementAndGet();
+            } catch (BookingNotFoundException e) {
+                throw new AssertionError("Booking " + toCancel + " vanished before it was cancelled", e);
+            }
+            return;
+        }
+
+        // Few distinct intervals in a narrow window so requests keep colliding
+        int startSlot = 40 + random.nextInt(12);
+        int endSlot = startSlot + 2 + random.nextInt(6);
+        try {
+            bookingService.bookRoom(BookingRequest.builder()
+                                            .startTime(TimeCodec.format(TimeCodec.slotToMinute(startSlot)))
+                                            .endTime(TimeCodec.format(TimeCodec.slotToMinute(endSlot)))
+                                            .numberOfPeople(2 + random.nextInt(19))
+                                            .build());
+            run.booked.incrementAndGet();
+            for (Long id : idsOverlapping(startSlot, endSlot)) {
+                if (run.offered.add(id)) {
+                    run.candidates.add(id);
+                }
+            }
+        } catch (AllRoomsBookedException | NoRoomAvailableException | MaintenanceTimeException e) {
+            run.rejected.incrementAndGet();
+        }
+    }
+
+    private List<Long> idsOverlapping(int startSlot, int endSlot) {
+        List<Long> ids = new ArrayList<>();
+        for (ConferenceRoom room : conferenceRoomRepository.findAll()) {
+            for (Booking booking : bookingRepository.findByRoomAndTime(room, TimeCodec.toLocalTime(TimeCodec.slotToMinute(startSlot)),
+                                                                       TimeCodec.toLocalTime(TimeCodec.slotToMinute(endSlot)))) {
+                ids.add(booking.getId());
+            }
+        }
+        return ids;
+    }
+
+    private void assertInvariants(Run run) {
+        Set<Long> ids = new HashSet<>();
+        int stored = 0;
+        for (ConferenceRoom room : conferenceRoomRepository.findAll()) {
+            List<Booking> bookings = new ArrayList<>(bookingRepository.findByRoom(room));
+            bookings.sort(Comparator.comparing(Booking::getStartTime));
+            for (int i = 0; i < bookings.size(); i++) {
+                Booking booking = bookings.get(i);
+                assertTrue(ids.add(booking.getId()), "Duplicate booking id " + booking.getId());
+                assertTrue(booking.getNumberOfPeople() <= room.getCapacity(), "Over capacity: " + booking);
+                if (i > 0) {
+                    assertTrue(!bookings.get(i - 1).getEndTime().isAfter(booking.getStartTime()),
+                               "Overlapping bookings in " + room.getName() + ": " + bookings.get(i - 1) + " and " + booking);
+                }
+                for (LocalTime[] window : room.getMaintenanceSchedule()) {
+                    assertTrue(!booking.getStartTime().isBefore(window[1]) || !booking.getEndTime().isAfter(window[0]),
+                               "Booking overlaps maintenance: " + booking);
+                }
+            }
+            stored += bookings.size();
+        }
+        assertEquals(run.booked.get() - run.cancelled.get(), stored);
+        assertEquals(stored, bookingRepository.count());
+    }
+
+    private static final class Run {
+        final AtomicInteger booked = new AtomicInteger();
+        final AtomicInteger cancelled = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+        // Booking ids any thread may cancel, each offered once
+        final Set<Long> offered = ConcurrentHashMap.newKeySet();
+        final ConcurrentLinkedQueue<Long> candidates = new ConcurrentLinkedQueue<>();
+        long elapsedNanos;
+    }
+}
@@ -12,24 +12,42 @@ import static com.example.interview.utils.TestConstants.TIME_10_30;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.stream.Stream;
 
+import com.example.interview.dto.BookingLookupResult;
+import com.example.interview.dto.BookingQueryResult;
 import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.BookingUpdateRequest;
+import com.example.interview.dto.CancellationResult;
 import com.example.interview.exception.AllRoomsBookedException;
 import com.example.interview.exception.BookingNotFoundException;
+import com.example.interview.exception.BookingWaitlistedException;
 import com.example.interview.exception.InvalidNumberOfPeopleException;
 import com.example.interview.exception.InvalidTimeIntervalException;
 import com.example.interview.exception.MaintenanceTimeException;
 import com.example.interview.exception.NoRoomAvailableException;
+import com.example.interview.exception.RoomNotFoundException;
 import com.example.interview.model.Booking;
 import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.BookingSnapshot;
 import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.utils.TimeCodec;
+import com.example.interview.waitlist.Waitlist;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +58,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
 @SpringBootTest
 class BookingServiceTest {
@@ -53,9 +72,13 @@ class BookingServiceTest {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @SpyBean
+    private Waitlist waitlist;
+
     @AfterEach
     public void tearDown() {
         bookingRepository.clear();
+        waitlist.clear();
     }
 
     static Stream<Arguments> roomBookingParameters() {
@@ -391,4 +414,277 @@ class BookingServiceTest {
         assertEquals(5, savedBooking.getNumberOfPeople());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testCancelBookings_byIds_cancelsFoundAndReportsMissing() {
+        bookingService.bookRoom(AMAZE_1100_1200_REQUEST);
+        bookingService.bookRoom(AMAZE_1100_1200_REQUEST);
+        List<Long> ids = List.of(
+                bookingRepository.findByRoom(conferenceRoomRepository.findByName(AMAZE_ROOM_NAME).orElseThrow()).get(0).getId(),
+                bookingRepository.findByRoom(conferenceRoomRepository.findByName(BEAUTY_ROOM_NAME).orElseThrow()).get(0).getId(),
+                999L);
+
+        CancellationResult result = bookingService.cancelBookings(ids);
+
+        assertEquals(2, result.getCancelled().size());
+        assertEquals(List.of(999L), result.getNotFound());
+        assertEquals(0, bookingRepository.count());
+    }
+
+    @Test
+    public void testCancelRoomBookings_timeRange_cancelsOnlyOverlappingBookings() {
+        bookRoom("09:30", "10:30", 3);
+        bookRoom("11:00", "12:00", 3);
+        bookRoom("14:00", "15:00", 3);
+        bookRoom("11:00", "12:00", 5);
+
+        CancellationResult result = bookingService.cancelRoomBookings(AMAZE_ROOM_NAME, "10:30", "14:00");
+
+        assertEquals(1, result.getCancelled().size());
+        assertEquals(LocalTime.of(11, 0), result.getCancelled().get(0).getStartTime());
+        assertEquals(AMAZE_ROOM_NAME, result.getCancelled().get(0).getRoom().getName());
+        assertEquals(3, bookingRepository.count());
+    }
+
+    @Test
+    public void testCancelRoomBookings_wholeRoom() {
+        bookRoom("09:30", "10:30", 3);
+        bookRoom("14:00", "15:00", 3);
+        bookRoom("11:00", "12:00", 5);
+
+        CancellationResult result = bookingService.cancelRoomBookings(AMAZE_ROOM_NAME, null, null);
+
+        assertEquals(2, result.getCancelled().size());
+        assertEquals(LocalTime.of(9, 30), result.getCancelled().get(0).getStartTime());
+        assertEquals(LocalTime.of(14, 0), result.getCancelled().get(1).getStartTime());
+        assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    public void testCancelRoomBookings_unknownRoom_shouldThrowRoomNotFoundException() {
+        RoomNotFoundException exception = assertThrows(
+                RoomNotFoundException.class,
+                () -> bookingService.cancelRoomBookings("Unknown", null, null)
+        );
+
+        assertEquals("Room 'Unknown' not found.", exception.getMessage());
+    }
+
+    @Test
+    public void testWaitlist_deleteAllocatesFirstFittingRequest() {
+        bookRoom("11:00", "12:00", 3);
+        bookRoom("11:00", "12:00", 7);
+        bookRoom("11:00", "12:00", 12);
+        bookRoom("11:00", "12:00", 20);
+        BookingWaitlistedException first = assertThrows(BookingWaitlistedException.class,
+                                                        () -> bookRoom("11:00", "12:00", 3, true));
+        BookingWaitlistedException second = assertThrows(BookingWaitlistedException.class,
+                                                         () -> bookRoom("11:15", "11:45", 2, true));
+
+        Long amazeBookingId = bookingRepository.findByRoom(conferenceRoomRepository.findByName(AMAZE_ROOM_NAME).orElseThrow())
+                .get(0).getId();
+        bookingService.deleteBooking(amazeBookingId);
+
+        assertEquals("All rooms are already booked during the requested time. The request is on the waitlist as booking "
+                             + first.getBookingId() + ".", first.getMessage());
+        Booking allocated = bookingService.getBookingById(first.getBookingId());
+        assertEquals(AMAZE_ROOM_NAME, allocated.getRoom().getName());
+        assertEquals(LocalTime.of(11, 0), allocated.getStartTime());
+        assertTrue(bookingService.findWaitlisted(second.getBookingId()).isPresent());
+
+        bookingService.deleteBooking(second.getBookingId());
+        assertEquals(0, waitlist.size());
+    }
+
+    @Test
+    public void testWaitlist_roomFreedBeforeParking_isBookedRightAway() {
+        bookRoom("11:00", "12:00", 3);
+        bookRoom("11:00", "12:00", 7);
+        bookRoom("11:00", "12:00", 12);
+        bookRoom("11:00", "12:00", 20);
+        Long amazeBookingId = amazeBookingIds().get(0);
+        // The cancellation lands after the request was rejected but before it is parked, so it finds no one waiting
+        doAnswer(invocation -> {
+            bookingService.deleteBooking(amazeBookingId);
+            return invocation.callRealMethod();
+        }).when(waitlist).add(any());
+
+        String message = bookingService.bookRoom(BookingRequest.builder()
+                                                         .startTime("11:00")
+                                                         .endTime("12:00")
+                                                         .numberOfPeople(3)
+                                                         .waitlist(true)
+                                                         .build());
+
+        assertEquals("Room 'Amaze' booked successfully for 3 people from 11:00 to 12:00.", message);
+        assertEquals(0, waitlist.size());
+        assertEquals(1, amazeBookingIds().size());
+    }
+
+    @Test
+    public void testGetBookingETag_changesWhenTheCatalogIsReloaded() {
+        bookRoom("11:00", "12:00", 3);
+        Long id = amazeBookingIds().get(0);
+        String etag = bookingService.getBookingETag(id).orElseThrow();
+
+        conferenceRoomRepository.replaceAll(List.copyOf(conferenceRoomRepository.findAll()));
+        bookingRepository.bindCatalog();
+
+        assertNotEquals(etag, bookingService.getBookingETag(id).orElseThrow());
+        assertTrue(bookingService.getBookingETag(id + 1000).isEmpty());
+    }
+
+    @Test
+    public void testMoveBooking_overlappingOwnTime_staysInRoom() {
+        bookRoom("11:00", "12:00", 3);
+        Long id = amazeBookingIds().get(0);
+
+        String message = bookingService.moveBooking(id, BookingUpdateRequest.builder().startTime("11:30").endTime("12:30").build());
+
+        assertEquals("Booking " + id + " moved to room 'Amaze' for 3 people from 11:30 to 12:30.", message);
+        Booking moved = bookingService.getBookingById(id);
+        assertEquals(LocalTime.of(11, 30), moved.getStartTime());
+        assertEquals(LocalTime.of(12, 30), moved.getEndTime());
+        assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    public void testMoveBooking_roomTaken_movesToBestFit() {
+        bookRoom("11:00", "12:00", 3);
+        bookRoom("12:00", "12:30", 3);
+        Long id = amazeBookingIds().get(0);
+
+        bookingService.moveBooking(id, BookingUpdateRequest.builder().endTime("12:30").build());
+
+        Booking moved = bookingService.getBookingById(id);
+        assertEquals(BEAUTY_ROOM_NAME, moved.getRoom().getName());
+        assertEquals(LocalTime.of(11, 0), moved.getStartTime());
+        assertEquals(1, amazeBookingIds().size());
+    }
+
+    @Test
+    public void testMoveBooking_noRoomFree_keepsOriginal() {
+        bookRoom("11:00", "12:00", 3);
+        Long id = amazeBookingIds().get(0);
+        bookRoom("12:00", "12:30", 3);
+        bookRoom("12:00", "12:30", 7);
+        bookRoom("12:00", "12:30", 12);
+        bookRoom("12:00", "12:30", 20);
+
+        assertThrows(AllRoomsBookedException.class,
+                     () -> bookingService.moveBooking(id, BookingUpdateRequest.builder().endTime("12:30").build()));
+
+        Booking unchanged = bookingService.getBookingById(id);
+        assertEquals(AMAZE_ROOM_NAME, unchanged.getRoom().getName());
+        assertEquals(LocalTime.of(12, 0), unchanged.getEndTime());
+    }
+
+    @Test
+    public void testFindBookings_pagesThroughFilteredBookings() {
+        bookRoom("09:30", "10:30", 3);
+        bookRoom("11:00", "12:00", 3);
+        bookRoom("14:00", "15:00", 3);
+        bookRoom("11:00", "12:00", 5);
+        bookRoom("11:00", "12:00", 2);
+
+        BookingQueryResult first = bookingService.findBookings(null, "10:00", "14:00", 3, null, 2);
+        BookingQueryResult second = bookingService.findBookings(null, "10:00", "14:00", 3, first.getNextCursor(), 2);
+
+        assertEquals(List.of(LocalTime.of(9, 30), LocalTime.of(11, 0)),
+                     first.getBookings().stream().map(Booking::getStartTime).toList());
+        assertEquals(AMAZE_ROOM_NAME, first.getBookings().get(1).getRoom().getName());
+        assertEquals(1, second.getBookings().size());
+        assertEquals(5, second.getBookings().get(0).getNumberOfPeople());
+        assertNull(second.getNextCursor());
+        assertThrows(IllegalArgumentException.class, () -> bookingService.findBookings(null, null, null, null, "-1", null));
+    }
+
+    @Test
+    public void testFindBookingsById_reportsMissingIds() {
+        bookRoom("09:30", "10:30", 3);
+        bookRoom("11:00", "12:00", 5);
+        List<Long> ids = bookingService.findBookings(null, null, null, null, null, null).getBookings().stream()
+                .map(Booking::getId)
+                .toList();
+
+        BookingLookupResult result = bookingService.findBookingsById(List.of(ids.get(1), 999L, ids.get(0)));
+
+        assertEquals(List.of(ids.get(1), ids.get(0)), result.getBookings().stream().map(Booking::getId).toList());
+        assertEquals(List.of(999L), result.getNotFound());
+    }
+
+    private List<Long> amazeBookingIds() {
+        return bookingRepository.findByRoom(conferenceRoomRepository.findByName(AMAZE_ROOM_NAME).orElseThrow()).stream()
+                .map(Booking::getId)
+                .toList();
+    }
+
+    private void bookRoom(String startTime, String endTime, int numberOfPeople) {
+        bookingService.bookRoom(BookingRequest.builder()
+                                        .startTime(startTime)
+                                        .endTime(endTime)
+                                        .numberOfPeople(numberOfPeople)
+                                        .build());
+    }
+
+    @Test
+    public void testExportBookings_filtersByRoomAndTime() {
+        bookRoom("09:30", "10:30", 3);
+        bookRoom("11:00", "12:00", 3);
+        bookRoom("11:00", "12:00", 5);
+
+        BookingSnapshot all = bookingService.exportBookings(null, null, null);
+        BookingSnapshot amazeMorning = bookingService.exportBookings(AMAZE_ROOM_NAME, "10:00", "11:00");
+
+        assertEquals(3, all.size());
+        assertEquals(1, amazeMorning.size());
+        assertEquals(AMAZE_ROOM_NAME, amazeMorning.room(0).getName());
+        assertEquals(TimeCodec.toSlot(9 * 60 + 30), amazeMorning.startSlot(0));
+    }
+
+    @Test
+    public void testExportBookings_invalidRange_shouldThrowInvalidTimeIntervalException() {
+        InvalidTimeIntervalException exception = assertThrows(
+                InvalidTimeIntervalException.class,
+                () -> bookingService.exportBookings(null, "12:00", "11:00")
+        );
+
+        assertEquals("End time must be after start time.", exception.getMessage());
+    }
+
+    private void bookRoom(String startTime, String endTime, int numberOfPeople, boolean waitlist) {
+        bookingService.bookRoom(BookingRequest.builder()
+                                        .startTime(startTime)
+                                        .endTime(endTime)
+                                        .numberOfPeople(numberOfPeople)
+                                        .waitlist(waitlist)
+                                        .build());
+    }
+
+    @Test
+    public void testBookRoom_recordsDecisionEvents() throws Exception {
+        Path file = Files.createTempFile("booking-decisions", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.interview.BookingDecision");
+            recording.start();
+            bookingService.bookRoom(
+                    BookingRequest.builder().startTime("10:00").endTime("11:00").numberOfPeople(3).build());
+            assertThrows(InvalidNumberOfPeopleException.class, () -> bookingService.bookRoom(
+                    BookingRequest.builder().startTime("10:00").endTime("11:00").numberOfPeople(1).build()));
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.example.interview.BookingDecision"))
+                    .toList();
+            assertEquals(2, events.size());
+            assertEquals("BOOKED", events.get(0).getString("outcome"));
+            assertEquals("Amaze", events.get(0).getString("room"));
+            assertEquals(conferenceRoomRepository.findAll().size(), events.get(0).getInt("roomsScanned"));
+            assertEquals(1, events.get(0).getInt("bookings"));
+            assertEquals("InvalidNumberOfPeople", events.get(1).getString("outcome"));
+            assertEquals(0, events.get(1).getInt("roomsScanned"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
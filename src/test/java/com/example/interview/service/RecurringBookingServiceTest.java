@@ -0,0 +1,114 @@
+package com.example.interview.service;
+
+import static com.example.interview.utils.TestConstants.AMAZE_ROOM_NAME;
+import static com.example.interview.utils.TestConstants.BEAUTY_ROOM_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.RecurringBookingRequest;
+import com.example.interview.dto.RoomSchedule;
+import com.example.interview.model.RecurringBooking;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.RecurringBookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class RecurringBookingServiceTest {
+
+    @Autowired
+    private RecurringBookingService recurringBookingService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RecurringBookingRepository recurringBookingRepository;
+
+    @Autowired
+    private Clock clock;
+
+    @AfterEach
+    public void tearDown() {
+        bookingRepository.clear();
+        recurringBookingRepository.clear();
+    }
+
+    @Test
+    public void testDailyRecurringBooking_blocksTodayAndAppearsInSchedule() {
+        RecurringBooking standup = createRecurring("11:00", "12:00", 3, null);
+
+        assertEquals(AMAZE_ROOM_NAME, standup.getRoom().getName());
+        assertEquals("Room 'Beauty' booked successfully for 3 people from 11:00 to 12:00.", book("11:00", "12:00", 3));
+        assertEquals("Room 'Amaze' booked successfully for 3 people from 10:00 to 11:00.", book("10:00", "11:00", 3));
+
+        RoomSchedule schedule = roomService.getSchedule(AMAZE_ROOM_NAME);
+
+        assertEquals(LocalDate.now(clock), schedule.getDate());
+        assertEquals(List.of(RoomSchedule.EntryType.BOOKING, RoomSchedule.EntryType.RECURRING),
+                     schedule.getEntries().stream().map(RoomSchedule.Entry::getType).toList());
+        assertEquals("11:00", schedule.getEntries().get(1).getStartTime());
+        assertEquals(1, recurringBookingRepository.count());
+    }
+
+    @Test
+    public void testCancelOccurrence_freesTheRoomForThatDayOnly() {
+        LocalDate today = LocalDate.now(clock);
+        RecurringBooking standup = createRecurring("11:00", "12:00", 3, null);
+
+        RecurringBooking updated = recurringBookingService.cancelOccurrence(standup.getId(), today.toString());
+
+        assertEquals(Set.of(today), updated.getCancelledDates());
+        assertEquals("Room 'Amaze' booked successfully for 3 people from 11:00 to 12:00.", book("11:00", "12:00", 3));
+        assertEquals(BEAUTY_ROOM_NAME, createRecurring("11:00", "12:00", 3, null).getRoom().getName());
+    }
+
+    @Test
+    public void testWeeklyRecurringBooking_onlyOccursOnItsDays() {
+        DayOfWeek tomorrow = LocalDate.now(clock).plusDays(1).getDayOfWeek();
+        RecurringBooking review = createRecurring("14:00", "15:00", 3, Set.of(tomorrow));
+
+        assertEquals("Room 'Amaze' booked successfully for 3 people from 14:00 to 15:00.", book("14:00", "15:00", 3));
+        assertEquals(BEAUTY_ROOM_NAME, createRecurring("14:30", "15:30", 3, Set.of(tomorrow)).getRoom().getName());
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> recurringBookingService.cancelOccurrence(review.getId(), LocalDate.now(clock).toString())
+        );
+        assertEquals("Recurring booking " + review.getId() + " does not occur on " + LocalDate.now(clock) + ".",
+                     exception.getMessage());
+    }
+
+    private RecurringBooking createRecurring(String startTime, String endTime, int numberOfPeople,
+                                             Set<DayOfWeek> daysOfWeek) {
+        return recurringBookingService.createRecurringBooking(RecurringBookingRequest.builder()
+                                                                      .startTime(startTime)
+                                                                      .endTime(endTime)
+                                                                      .numberOfPeople(numberOfPeople)
+                                                                      .daysOfWeek(daysOfWeek)
+                                                                      .build());
+    }
+
+    private String book(String startTime, String endTime, int numberOfPeople) {
+        return bookingService.bookRoom(BookingRequest.builder()
+                                               .startTime(startTime)
+                                               .endTime(endTime)
+                                               .numberOfPeople(numberOfPeople)
+                                               .build());
+    }
+}
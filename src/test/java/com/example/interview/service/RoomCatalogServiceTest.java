@@ -0,0 +1,140 @@
+package com.example.interview.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+
+import com.example.interview.config.ConferenceRoomConfig;
+import com.example.interview.config.RoomCatalogConfig;
+import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.CatalogReloadResult;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.utils.TimeCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+@SpringBootTest
+@RecordApplicationEvents
+class RoomCatalogServiceTest {
+
+    private static final String CATALOG = String.join("\n",
+            "conference-rooms:",
+            "  rooms:",
+            "    - name: Amaze",
+            "      capacity: 3",
+            "      maintenance-schedule:",
+            "        - start: \"09:00\"",
+            "          end: \"09:15\"",
+            "        - start: \"11:30\"",
+            "          end: \"11:45\"",
+            "    - name: Beauty",
+            "      capacity: 5",
+            "    - name: Strive",
+            "      capacity: 20",
+            "    - name: Zen",
+            "      capacity: 4");
+
+    @Autowired
+    private RoomCatalogService roomCatalogService;
+
+    @Autowired
+    private RoomCatalogConfig roomCatalogConfig;
+
+    @Autowired
+    private ConferenceRoomConfig conferenceRoomConfig;
+
+    @Autowired
+    private ConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    public void setUp() {
+        roomCatalogConfig.setFile(directory.resolve("rooms.yml").toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        roomCatalogConfig.setFile(null);
+        conferenceRoomRepository.replaceAll(ConferenceRoomRepository.convert(conferenceRoomConfig.getRooms()));
+        eventPublisher.publishEvent(new RoomCatalogReloadedEvent(this, CatalogReloadResult.builder().build()));
+        bookingRepository.clear();
+    }
+
+    @Test
+    public void testReload_swapsCatalogAndReportsConflicts() throws IOException {
+        book("11:00", "12:00", 3);
+        book("14:00", "15:00", 7);
+        book("10:00", "11:00", 10);
+        Files.writeString(directory.resolve("rooms.yml"), CATALOG);
+
+        CatalogReloadResult result = roomCatalogService.reload();
+
+        assertEquals(List.of("Zen"), result.getAdded());
+        assertEquals(List.of("Inspire"), result.getRemoved());
+        assertEquals(List.of("Amaze", "Beauty", "Strive"), result.getChanged());
+        assertEquals(List.of("Inspire", "Amaze", "Beauty"),
+                     result.getConflicts().stream().map(CatalogReloadResult.Conflict::getRoom).toList());
+        assertEquals("Room was removed from the catalog.", result.getConflicts().get(0).getReason());
+        assertEquals("Booking overlaps the new maintenance window 11:30 to 11:45.", result.getConflicts().get(1).getReason());
+        assertEquals("Booking for 7 people exceeds the new capacity of 5.", result.getConflicts().get(2).getReason());
+        assertEquals(1, events.stream(RoomCatalogReloadedEvent.class).count());
+        // The reload rebound the slot counters before any request asked for them
+        assertArrayEquals(new int[] {3, 4, 5, 20}, bookingRepository.freeRooms(
+                0, 15, new BitSet[TimeCodec.SLOTS_PER_DAY]).getCapacities());
+
+        assertTrue(conferenceRoomRepository.findByName("Inspire").isEmpty());
+        assertEquals("Inspire", bookingRepository.findById(result.getConflicts().get(0).getBookingId())
+                .orElseThrow().getRoom().getName());
+        assertEquals(5, bookingRepository.findById(result.getConflicts().get(2).getBookingId())
+                .orElseThrow().getRoom().getCapacity());
+        assertEquals("Room 'Zen' booked successfully for 4 people from 14:00 to 15:00.", book("14:00", "15:00", 4));
+    }
+
+    @Test
+    public void testReload_invalidCatalog_keepsCurrentCatalog() throws IOException {
+        Files.writeString(directory.resolve("rooms.yml"), CATALOG.replace("capacity: 20", "capacity: 0"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> roomCatalogService.reload());
+
+        assertEquals("Room 'Strive' needs a positive capacity.", exception.getMessage());
+        assertEquals(4, conferenceRoomRepository.findAll().size());
+        assertTrue(conferenceRoomRepository.findByName("Inspire").isPresent());
+    }
+
+    private String book(String startTime, String endTime, int numberOfPeople) {
+        return bookingService.bookRoom(BookingRequest.builder()
+                                               .startTime(startTime)
+                                               .endTime(endTime)
+                                               .numberOfPeople(numberOfPeople)
+                                               .build());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.interview.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.interview.config.BookingStoreConfig;
+import com.example.interview.config.ConferenceRoomConfig;
+import com.example.interview.model.Booking;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.repo.RecurringBookingRepository;
+import org.junit.jupiter.api.Test;
+
+class RoomClassifierTest {
+
+    @Test
+    public void testClassify_matchesPerRoomChecks() {
+        ConferenceRoomRepository rooms = new ConferenceRoomRepository(catalog(200));
+        BookingRepository bookings = new BookingRepository(rooms, new BookingStoreConfig());
+        List<ConferenceRoom> catalog = rooms.findAll();
+        for (int i = 0; i < catalog.size(); i += 3) {
+            bookings.save(booking(i + 1L, catalog.get(i), "12:30", "13:30"));
+        }
+        RoomClassifier classifier = new RoomClassifier(rooms, bookings, new RecurringBookingRepository(rooms),
+                                                       Clock.systemDefaultZone());
+
+        int start = 12 * 60 + 45;
+        int end = 13 * 60 + 5;
+        RoomClassifier.Occupancy occupancy = classifier.classify(start, end);
+
+        for (int i = 0; i < catalog.size(); i++) {
+            ConferenceRoom room = catalog.get(i);
+            boolean booked = bookings.existsOverlapping(room, start, end);
+            boolean maintenance = !booked && i % 2 == 1;
+            assertEquals(booked, occupancy.booked.get(i), room.getName());
+            assertEquals(maintenance, occupancy.maintenance.get(i), room.getName());
+            assertEquals(!booked && !maintenance, occupancy.free.get(i), room.getName());
+        }
+        assertEquals(catalog.get(2), occupancy.catalog.smallest(occupancy.free, 2));
+        assertEquals(catalog.get(8), occupancy.catalog.smallest(occupancy.free, 9));
+        assertNull(occupancy.catalog.smallest(occupancy.free, 1_000));
+    }
+
+    @Test
+    public void testClassify_maintenanceIsCheckedToTheMinute() {
+        ConferenceRoomRepository rooms = new ConferenceRoomRepository(catalog(2));
+        RoomClassifier classifier = new RoomClassifier(rooms, new BookingRepository(rooms, new BookingStoreConfig()),
+                                                       new RecurringBookingRepository(rooms), Clock.systemDefaultZone());
+
+        // The 13:00-13:10 window shares the 13:00 slot with 13:10-13:15 but does not overlap it
+        assertFalse(classifier.classify(13 * 60 + 10, 13 * 60 + 15).maintenance.get(1));
+        assertTrue(classifier.classify(13 * 60 + 5, 13 * 60 + 15).maintenance.get(1));
+    }
+
+    private static Booking booking(long id, ConferenceRoom room, String startTime, String endTime) {
+        return Booking.builder()
+                .id(id)
+                .room(room)
+                .startTime(LocalTime.parse(startTime))
+                .endTime(LocalTime.parse(endTime))
+                .numberOfPeople(2)
+                .build();
+    }
+
+    // Odd rooms have a maintenance window at 13:00-13:10; capacities grow with the index
+    static ConferenceRoomConfig catalog(int size) {
+        ConferenceRoomConfig.MaintenanceSchedule window = new ConferenceRoomConfig.MaintenanceSchedule();
+        window.setStart(LocalTime.of(13, 0));
+        window.setEnd(LocalTime.of(13, 10));
+        List<ConferenceRoomConfig.ConferenceRoomProperties> rooms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ConferenceRoomConfig.ConferenceRoomProperties room = new ConferenceRoomConfig.ConferenceRoomProperties();
+            room.setName("Room " + i);
+            room.setCapacity(2 + i);
+            room.setMaintenanceSchedule(i % 2 == 1 ? List.of(window) : List.of());
+            rooms.add(room);
+        }
+        ConferenceRoomConfig config = new ConferenceRoomConfig();
+        config.setRooms(rooms);
+        return config;
+    }
+}
@@ -5,10 +5,14 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.List;
+import java.util.Map;
 
+import com.example.interview.dto.RecurringBookingRequest;
+import com.example.interview.dto.RoomOccupancy;
 import com.example.interview.model.ConferenceRoom;
 import com.example.interview.repo.BookingRepository;
 import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.repo.RecurringBookingRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,9 +33,16 @@ class RoomServiceTest {
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private RecurringBookingService recurringBookingService;
+
+    @Autowired
+    private RecurringBookingRepository recurringBookingRepository;
+
     @AfterEach
     public void tearDown() {
         bookingRepository.clear();
+        recurringBookingRepository.clear();
     }
 
 
@@ -74,6 +85,34 @@ class RoomServiceTest {
         assertAvailableRooms(availableRooms, 3);
     }
 
+    @Test
+    public void testGetOccupancy_countsFreeRoomsPerSlot() {
+        bookingService.bookRoom(AMAZE_1100_1200_REQUEST);
+
+        RoomOccupancy occupancy = roomService.getOccupancy("10:45", "11:15");
+
+        assertEquals(2, occupancy.getSlots().size());
+        assertEquals(new RoomOccupancy.Slot("10:45", 0, 4, Map.of(3, 4, 7, 3, 12, 2, 20, 1)), occupancy.getSlots().get(0));
+        assertEquals(new RoomOccupancy.Slot("11:00", 1, 3, Map.of(3, 3, 7, 3, 12, 2, 20, 1)), occupancy.getSlots().get(1));
+        assertEquals(0, roomService.getOccupancy("13:00", "13:15").getSlots().get(0).getFreeRooms());
+    }
+
+    @Test
+    public void testGetOccupancy_countsTodaysRecurringOccurrencesAsBooked() {
+        bookingService.bookRoom(AMAZE_1100_1200_REQUEST);
+        recurringBookingService.createRecurringBooking(RecurringBookingRequest.builder()
+                                                               .startTime("11:00")
+                                                               .endTime("12:00")
+                                                               .numberOfPeople(5)
+                                                               .build());
+
+        RoomOccupancy occupancy = roomService.getOccupancy("10:45", "11:15");
+
+        assertEquals(new RoomOccupancy.Slot("10:45", 0, 4, Map.of(3, 4, 7, 3, 12, 2, 20, 1)), occupancy.getSlots().get(0));
+        assertEquals(new RoomOccupancy.Slot("11:00", 2, 2, Map.of(3, 2, 7, 2, 12, 2, 20, 1)), occupancy.getSlots().get(1));
+        assertEquals(2, roomService.getAvailableRooms("11:00", "11:15").size());
+    }
+
     @Test
     public void testGetAvailableRooms_invalidStartTime_shouldThrowException() {
         IllegalArgumentException exception = assertThrows(
@@ -0,0 +1,128 @@
+package com.example.interview.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import com.example.interview.config.ConferenceRoomConfig;
+import com.example.interview.dto.BookingRequest;
+import com.example.interview.dto.BookingUpdateRequest;
+import com.example.interview.dto.CatalogReloadResult;
+import com.example.interview.dto.UtilizationReport;
+import com.example.interview.exception.AllRoomsBookedException;
+import com.example.interview.repo.BookingRepository;
+import com.example.interview.repo.ConferenceRoomRepository;
+import com.example.interview.model.ConferenceRoom;
+import com.example.interview.service.BookingService;
+import com.example.interview.service.RoomCatalogReloadedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+@SpringBootTest
+class UtilizationStatsTest {
+
+    @Autowired
+    private UtilizationStats utilizationStats;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private ConferenceRoomConfig conferenceRoomConfig;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    public void tearDown() {
+        conferenceRoomRepository.replaceAll(ConferenceRoomRepository.convert(conferenceRoomConfig.getRooms()));
+        eventPublisher.publishEvent(new RoomCatalogReloadedEvent(this, CatalogReloadResult.builder().build()));
+        bookingRepository.clear();
+    }
+
+    @Test
+    public void testReport_tracksBookingsDeletionsAndRejections() {
+        UtilizationReport before = utilizationStats.report();
+        for (int people : List.of(3, 7, 12, 20)) {
+            bookRoom("11:00", "12:00", people);
+        }
+        assertThrows(AllRoomsBookedException.class, () -> bookRoom("11:30", "12:30", 2));
+        bookingService.deleteBooking(bookingRepository.findByRoom(conferenceRoomRepository.findByName("Strive").orElseThrow())
+                                             .get(0).getId());
+
+        UtilizationReport report = utilizationStats.report();
+
+        UtilizationReport.RoomUtilization amaze = report.getRooms().get(0);
+        assertEquals("Amaze", amaze.getRoom());
+        assertEquals(1, amaze.getBookings());
+        assertEquals(60, amaze.getBookedMinutes());
+        assertEquals(10.0, amaze.getOccupancyPercent());
+        assertEquals(0, report.getRooms().get(3).getBookings());
+
+        assertEquals("08:00", report.getHours().get(0).getHour());
+        assertEquals(10, report.getHours().size());
+        UtilizationReport.HourUtilization eleven = report.getHours().get(3);
+        assertEquals(75.0, eleven.getOccupancyPercent());
+        assertEquals(before.getHours().get(3).getRejectedRequests() + 1, eleven.getRejectedRequests());
+        assertEquals(before.getHours().get(4).getRejectedRequests() + 1, report.getHours().get(4).getRejectedRequests());
+        assertEquals(List.of("11:00"), report.getPeakHours());
+
+        assertEquals(before.getBookingsAdded() + 4, report.getBookingsAdded());
+        assertEquals(before.getBookingsRemoved() + 1, report.getBookingsRemoved());
+        assertEquals(before.getRejectedByReason().getOrDefault("AllRoomsBooked", 0L) + 1,
+                     report.getRejectedByReason().get("AllRoomsBooked"));
+
+        bookingRepository.clear();
+        assertEquals(0.0, utilizationStats.report().getHours().get(3).getOccupancyPercent());
+    }
+
+    @Test
+    public void testReport_countsAMoveOnlyAsAMove() {
+        bookRoom("11:00", "12:00", 3);
+        Long bookingId = bookingRepository.findByRoom(conferenceRoomRepository.findByName("Amaze").orElseThrow())
+                .get(0).getId();
+        UtilizationReport before = utilizationStats.report();
+
+        bookingService.moveBooking(bookingId, BookingUpdateRequest.builder().startTime("14:00").endTime("15:00").build());
+
+        UtilizationReport report = utilizationStats.report();
+        assertEquals(before.getBookingsAdded(), report.getBookingsAdded());
+        assertEquals(before.getBookingsRemoved(), report.getBookingsRemoved());
+        assertEquals(before.getBookingsMoved() + 1, report.getBookingsMoved());
+        assertEquals(0.0, report.getHours().get(3).getOccupancyPercent());
+        assertEquals(25.0, report.getHours().get(6).getOccupancyPercent());
+    }
+
+    @Test
+    public void testReport_ignoresBookingsInRetiredRooms() {
+        for (int people : List.of(3, 7, 12, 20)) {
+            bookRoom("11:00", "12:00", people);
+        }
+        List<ConferenceRoom> remaining = conferenceRoomRepository.findAll().stream()
+                .filter(room -> !room.getName().equals("Strive"))
+                .toList();
+
+        conferenceRoomRepository.replaceAll(remaining);
+        eventPublisher.publishEvent(new RoomCatalogReloadedEvent(this, CatalogReloadResult.builder().build()));
+
+        assertEquals(100.0, utilizationStats.report().getHours().get(3).getOccupancyPercent());
+    }
+
+    private void bookRoom(String startTime, String endTime, int numberOfPeople) {
+        bookingService.bookRoom(BookingRequest.builder()
+                                        .startTime(startTime)
+                                        .endTime(endTime)
+                                        .numberOfPeople(numberOfPeople)
+                                        .build());
+    }
+}
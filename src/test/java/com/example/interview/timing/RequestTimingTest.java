@@ -0,0 +1,42 @@
+package com.example.interview.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.end();
+    }
+
+    @Test
+    void spansOutsideATimedRequestAreIgnored() {
+        try (RequestTiming.Span span = RequestTiming.span(Phase.SCAN)) {
+            assertNull(RequestTiming.current());
+        }
+    }
+
+    @Test
+    void repeatedPhasesAreSummedAndListedInOrder() {
+        RequestTiming timing = RequestTiming.begin();
+        timing.add(Phase.INSERT, 34_000);
+        timing.add(Phase.SCAN, 1_204_000);
+        timing.add(Phase.INSERT, 1_000);
+        try (RequestTiming.Span span = RequestTiming.span(Phase.VALIDATE)) {
+            assertFalse(timing.isRecorded(Phase.VALIDATE));
+        }
+
+        assertTrue(timing.isRecorded(Phase.VALIDATE));
+        assertEquals(35_000, timing.nanos(Phase.INSERT));
+        assertFalse(timing.isRecorded(Phase.ALLOCATE));
+        String header = timing.serverTiming();
+        assertTrue(header.matches("validate;dur=0\\.\\d{3}, scan;dur=1\\.204, insert;dur=0\\.035, total;dur=\\d+\\.\\d{3}"),
+                   header);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.interview.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>("test", 16, registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        Object value = new Object();
+
+        Future<Object> leader = executor.submit(() -> flight.execute("key", () -> {
+            computations.incrementAndGet();
+            started.countDown();
+            await(release);
+            return value;
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        List<Future<Object>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(executor.submit(() -> flight.execute("key", () -> {
+                computations.incrementAndGet();
+                return new Object();
+            })));
+        }
+        while (coalesced() < 3) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertSame(value, leader.get(5, TimeUnit.SECONDS));
+        for (Future<Object> follower : followers) {
+            assertSame(value, follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        assertEquals(0, flight.inFlight());
+        assertEquals(1, flight.execute("key", () -> 1), "A finished computation is not reused");
+    }
+
+    @Test
+    void followersGetTheLeadersException() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>("test", 16, registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> flight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("failed");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Object> follower = executor.submit(() -> flight.execute("key", Object::new));
+        while (coalesced() < 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        for (Future<Object> caller : List.of(leader, follower)) {
+            Exception e = assertThrows(Exception.class, () -> caller.get(5, TimeUnit.SECONDS));
+            assertEquals(IllegalStateException.class, e.getCause().getClass());
+        }
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void fullTableComputesWithoutCoalescing() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>("test", 1, registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> flight.execute("first", () -> {
+            started.countDown();
+            await(release);
+            return 1;
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        assertEquals(2, flight.execute("second", () -> 2));
+        assertEquals(1.0, registry.get("coalescing.requests").tag("outcome", "bypassed").counter().count());
+        release.countDown();
+        assertEquals(1, leader.get(5, TimeUnit.SECONDS));
+    }
+
+    private double coalesced() {
+        return registry.get("coalescing.requests").tag("outcome", "coalesced").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
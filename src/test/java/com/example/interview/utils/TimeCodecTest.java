@@ -0,0 +1,81 @@
+package com.example.interview.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TimeCodecTest {
+
+    @ParameterizedTest(name = "{index}: {0} should parse to minute {1}")
+    @CsvSource({
+            "00:00, 0",
+            "0:00, 0",
+            "9:30, 570",
+            "09:30, 570",
+            "13:15, 795",
+            "19:59, 1199",
+            "23:59, 1439"
+    })
+    public void testParseMinuteOfDay_validInput(String text, int expectedMinute) {
+        assertEquals(expectedMinute, TimeCodec.parseMinuteOfDay(text));
+    }
+
+    @ParameterizedTest(name = "{index}: {0} should be rejected")
+    @ValueSource(strings = {"", "9", "09:3", "09:154", "09:303", "10:030", "24:00", "29:00", "09:60", "0a:00",
+            "09-30", " 9:30", "09:30:00", "123:00"})
+    public void testParseMinuteOfDay_invalidInput(String text) {
+        assertEquals(TimeCodec.INVALID, TimeCodec.parseMinuteOfDay(text));
+        assertFalse(TimeCodec.isValid(text));
+    }
+
+    @Test
+    public void testParseMinuteOfDay_null() {
+        assertEquals(TimeCodec.INVALID, TimeCodec.parseMinuteOfDay(null));
+    }
+
+    @Test
+    public void testParseMinuteOfDay_matchesPreviousRegexForAllInputs() {
+        String pattern = "^([01]?[0-9]|2[0-3]):[0-5][0-9]$";
+        for (int hours = 0; hours < 100; hours++) {
+            for (int minutes = 0; minutes < 100; minutes++) {
+                String padded = String.format("%02d:%02d", hours, minutes);
+                String unpadded = hours + ":" + String.format("%02d", minutes);
+                assertEquals(padded.matches(pattern), TimeCodec.isValid(padded), padded);
+                assertEquals(unpadded.matches(pattern), TimeCodec.isValid(unpadded), unpadded);
+            }
+        }
+    }
+
+    @Test
+    public void testSlots() {
+        assertTrue(TimeCodec.isSlotAligned(570));
+        assertFalse(TimeCodec.isSlotAligned(547));
+        assertEquals(38, TimeCodec.toSlot(570));
+        assertEquals(38, TimeCodec.ceilSlot(570));
+        assertEquals(37, TimeCodec.toSlot(569));
+        assertEquals(38, TimeCodec.ceilSlot(556));
+        assertEquals(570, TimeCodec.slotToMinute(38));
+        assertEquals(96, TimeCodec.SLOTS_PER_DAY);
+    }
+
+    @Test
+    public void testConversions() {
+        assertEquals(570, TimeCodec.minuteOfDay(LocalTime.of(9, 30)));
+        assertEquals(LocalTime.of(9, 30), TimeCodec.toLocalTime(570));
+        assertEquals("09:30", TimeCodec.format(570));
+        assertEquals("23:45", TimeCodec.format(1425));
+    }
+
+    @Test
+    public void testOverlaps_backToBackIntervalsDoNotOverlap() {
+        assertFalse(TimeCodec.overlaps(600, 660, 660, 720));
+        assertTrue(TimeCodec.overlaps(600, 675, 660, 720));
+    }
+}
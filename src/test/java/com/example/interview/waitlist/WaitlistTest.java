@@ -0,0 +1,52 @@
+package com.example.interview.waitlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import com.example.interview.config.WaitlistConfig;
+import com.example.interview.model.WaitlistEntry;
+import org.junit.jupiter.api.Test;
+
+class WaitlistTest {
+
+    @Test
+    public void testCandidates_onlyOverlappingEntriesInArrivalOrder() {
+        Waitlist waitlist = new Waitlist(new WaitlistConfig());
+        waitlist.add(entry(1, "10:00", "11:00"));
+        waitlist.add(entry(2, "11:00", "12:00"));
+        waitlist.add(entry(3, "10:30", "11:30"));
+
+        List<WaitlistEntry> candidates = waitlist.candidates(11 * 60, 12 * 60);
+
+        assertEquals(List.of(2L, 3L), candidates.stream().map(WaitlistEntry::getId).toList());
+        assertEquals(3, waitlist.size());
+        assertTrue(waitlist.remove(3));
+        assertEquals(List.of(2L), waitlist.candidates(11 * 60, 12 * 60).stream().map(WaitlistEntry::getId).toList());
+        assertFalse(waitlist.find(3).isPresent());
+    }
+
+    @Test
+    public void testAdd_rejectsWhenFull() {
+        WaitlistConfig config = new WaitlistConfig();
+        config.setMaxEntries(1);
+        Waitlist waitlist = new Waitlist(config);
+
+        assertTrue(waitlist.add(entry(1, "10:00", "11:00")));
+        assertFalse(waitlist.add(entry(2, "10:00", "11:00")));
+        assertTrue(waitlist.remove(1));
+        assertTrue(waitlist.add(entry(2, "10:00", "11:00")));
+    }
+
+    private static WaitlistEntry entry(long id, String startTime, String endTime) {
+        return WaitlistEntry.builder()
+                .id(id)
+                .startTime(LocalTime.parse(startTime))
+                .endTime(LocalTime.parse(endTime))
+                .numberOfPeople(2)
+                .build();
+    }
+}